@@ -0,0 +1,44 @@
+package org.api;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import org.api.model.Book;
+import org.api.stub.LocalApiServer;
+import org.configuration.model.StubConfiguration;
+import org.utils.ObjectMapperRegistry;
+
+import java.io.UncheckedIOException;
+import java.util.stream.LongStream;
+
+/**
+ * Canned payloads shared by the benchmarks.
+ */
+public class BenchmarkData {
+
+    public static final int BOOKS_COUNT = 200;
+
+    public static Book book(long id) {
+        return new Book()
+                .setId(id)
+                .setTitle("Book " + id)
+                .setDescription("Benchmark description of book " + id)
+                .setPageCount((int) id)
+                .setExcerpt("Excerpt ".repeat(10))
+                .setPublishDate("2025-01-01T00:00:00.000Z");
+    }
+
+    public static String booksJson() {
+        try {
+            return ObjectMapperRegistry.getApiMapper().writeValueAsString(LongStream.rangeClosed(1, BOOKS_COUNT)
+                    .mapToObj(BenchmarkData::book)
+                    .toList());
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public static LocalApiServer startServer() {
+        StubConfiguration configuration = new StubConfiguration();
+        configuration.setSeedBooks(BOOKS_COUNT);
+        return new LocalApiServer(configuration);
+    }
+}
@@ -0,0 +1,65 @@
+package org.api;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.qameta.allure.restassured.AllureRestAssured;
+import io.restassured.RestAssured;
+import io.restassured.config.ObjectMapperConfig;
+import io.restassured.config.RestAssuredConfig;
+import io.restassured.specification.RequestSpecification;
+import org.configuration.ConfigurationLoader;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-request cost of obtaining a client: shared template vs. the former build-everything-per-call approach.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ClientSetupBenchmark {
+
+    private final BenchmarkClient client = new BenchmarkClient();
+
+    @Benchmark
+    public RequestSpecification sharedTemplate() {
+        return client.client();
+    }
+
+    @Benchmark
+    public RequestSpecification rebuiltPerRequest() {
+        return RestAssured.given().config(RestAssuredConfig.config()
+                        .objectMapperConfig(new ObjectMapperConfig().jackson2ObjectMapperFactory((cls, charset) -> {
+                            ObjectMapper objectMapper = new ObjectMapper();
+                            objectMapper.setSerializationInclusion(JsonInclude.Include.NON_NULL);
+                            objectMapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, true);
+                            objectMapper.setVisibility(PropertyAccessor.FIELD, JsonAutoDetect.Visibility.ANY);
+                            return objectMapper;
+                        })))
+                .baseUri(ConfigurationLoader.getAutomationConfiguration().getApplication().getBaseApi())
+                .filter((requestSpec, responseSpec, ctx) -> ctx.next(requestSpec, responseSpec))
+                .filter(new AllureRestAssured().setResponseAttachmentName("Response"));
+    }
+
+    private static class BenchmarkClient extends BaseApiConfig {
+
+        RequestSpecification client() {
+            return getClient();
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package org.api;
+
+import io.restassured.common.mapper.TypeRef;
+import io.restassured.response.Response;
+import org.api.call.BookApi;
+import org.api.model.Book;
+import org.api.stub.LocalApiServer;
+import org.configuration.ConfigurationLoader;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static io.restassured.module.jsv.JsonSchemaValidator.matchesJsonSchema;
+
+/**
+ * Client-side processing of an already received List&lt;Book&gt; response: deserialization and schema validation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ResponseBenchmark {
+
+    private static final TypeRef<List<Book>> BOOKS = new TypeRef<>() {
+    };
+    private static final String BOOKS_SCHEMA = """
+            {
+              "type": "array",
+              "items": {
+                "type": "object",
+                "required": ["id", "title", "pageCount"],
+                "properties": {
+                  "id": {"type": "integer"},
+                  "title": {"type": "string"},
+                  "description": {"type": "string"},
+                  "pageCount": {"type": "integer"},
+                  "excerpt": {"type": "string"},
+                  "publishDate": {"type": "string"}
+                }
+              }
+            }
+            """;
+
+    private Response response;
+    private Path schema;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        try (LocalApiServer server = BenchmarkData.startServer()) {
+            ConfigurationLoader.setBaseApi(server.getBaseUri());
+            response = new BookApi().getBooks().asRaw();
+        }
+        schema = Files.createTempFile("books-schema", ".json");
+        Files.writeString(schema, BOOKS_SCHEMA);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(schema);
+    }
+
+    @Benchmark
+    public List<Book> deserializeBooks() {
+        return ResponseWrapper.of(response, BOOKS).get();
+    }
+
+    @Benchmark
+    public ResponseValidation validateSchema() {
+        return new ResponseValidation(response, schema).validateSchema();
+    }
+
+    @Benchmark
+    public Object validateSchemaWithoutCache() {
+        return response.then().body(matchesJsonSchema(schema.toFile()));
+    }
+}
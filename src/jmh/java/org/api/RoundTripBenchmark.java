@@ -0,0 +1,82 @@
+package org.api;
+
+import org.api.call.BookApi;
+import org.api.model.Book;
+import org.api.stub.LocalApiServer;
+import org.configuration.ConfigurationLoader;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Full request through {@link BookApi} vs. a bare HTTP call to the same in-process stub,
+ * the difference is the overhead added by the framework.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RoundTripBenchmark {
+
+    private LocalApiServer server;
+    private BookApi bookApi;
+    private HttpClient httpClient;
+    private HttpRequest rawBookRequest;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        server = BenchmarkData.startServer();
+        ConfigurationLoader.setBaseApi(server.getBaseUri());
+        bookApi = new BookApi();
+        httpClient = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        rawBookRequest = HttpRequest.newBuilder(URI.create(server.getBaseUri() + "/api/v1/Books/1")).GET().build();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        server.close();
+    }
+
+    @Benchmark
+    public Book bookApiGetBook() {
+        return bookApi.getBook(1).get();
+    }
+
+    @Benchmark
+    public List<Book> bookApiGetBooks() {
+        return bookApi.getBooks().get();
+    }
+
+    @Benchmark
+    public Optional<Book> bookApiStreamBooksFindLast() {
+        try (Stream<Book> books = bookApi.streamBooks()) {
+            return books.filter(book -> book.getId() == BenchmarkData.BOOKS_COUNT).findFirst();
+        }
+    }
+
+    @Benchmark
+    public byte[] rawHttpGetBook() throws IOException, InterruptedException {
+        return httpClient.send(rawBookRequest, HttpResponse.BodyHandlers.ofByteArray()).body();
+    }
+}
@@ -0,0 +1,57 @@
+package org.api;
+
+import io.restassured.builder.ResponseBuilder;
+import io.restassured.response.Response;
+import org.hamcrest.Matchers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Success path of the 2xx check done by {@link ResponseWrapper#get()}: precomputed range vs. the former matcher chain.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class StatusCheckBenchmark {
+
+    private Response response;
+
+    @Setup
+    public void setUp() {
+        response = new ResponseBuilder()
+                .setStatusCode(200)
+                .setContentType("application/json")
+                .setBody("{}")
+                .build();
+    }
+
+    @Benchmark
+    public void precomputedRange() {
+        ResponseWrapper.assertSuccessStatusCode(response);
+    }
+
+    @Benchmark
+    public void matcherPerCall() {
+        var matcher = Matchers.describedAs("Expected status code (200–299)",
+                Matchers.is(Matchers.in(IntStream.rangeClosed(200, 299)
+                        .boxed()
+                        .collect(Collectors.toList()))));
+        response.then()
+                .statusCode(matcher);
+    }
+}
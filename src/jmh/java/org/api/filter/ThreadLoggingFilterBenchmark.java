@@ -0,0 +1,48 @@
+package org.api.filter;
+
+import org.api.BenchmarkData;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Formatting of a log record for a List&lt;Book&gt; response vs. the work left on the request thread
+ * with truncation and background formatting.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ThreadLoggingFilterBenchmark {
+
+    private String responseBody;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        responseBody = BenchmarkData.booksJson();
+    }
+
+    @Benchmark
+    public String format() {
+        return new HttpExchangeMessage(Thread.currentThread().threadId(), "GET", "http://localhost/api/v1/Books", null,
+                200, 5, responseBody).getFormattedMessage();
+    }
+
+    @Benchmark
+    public HttpExchangeMessage captureTruncated() {
+        return new HttpExchangeMessage(Thread.currentThread().threadId(), "GET", "http://localhost/api/v1/Books", null,
+                200, 5, ThreadLoggingFilter.truncate(responseBody, 4096));
+    }
+}
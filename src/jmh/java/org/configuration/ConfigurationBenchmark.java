@@ -0,0 +1,98 @@
+package org.configuration;
+
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
+import org.configuration.model.AutomationConfig;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.InputStream;
+import java.lang.reflect.Field;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Full configuration load with system property overrides: overrides merged into the YAML tree vs. the former
+ * reflective walk over the bound beans with one property lookup per field.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ConfigurationBenchmark {
+
+    private static final ObjectMapper YAML_MAPPER = JsonMapper.builder(new YAMLFactory())
+            .enable(MapperFeature.ACCEPT_CASE_INSENSITIVE_ENUMS)
+            .build();
+
+    private Properties properties;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        System.setProperty("execution.retry", "3");
+        System.setProperty("application.baseApi", "http://localhost");
+        properties = System.getProperties();
+    }
+
+    @Benchmark
+    public AutomationConfig mergedIntoTree() {
+        return ConfigurationLoader.load(properties);
+    }
+
+    @Benchmark
+    public AutomationConfig reflectiveWalk() throws Exception {
+        try (InputStream configurationFile = Thread.currentThread().getContextClassLoader()
+                .getResourceAsStream("configuration/automation-application.yml")) {
+            AutomationConfig configuration = YAML_MAPPER.readValue(configurationFile, AutomationConfig.class);
+            overrideWithSystemProperties(configuration, "");
+            return configuration;
+        }
+    }
+
+    private static void overrideWithSystemProperties(Object obj, String prefix) throws Exception {
+        for (Field field : obj.getClass().getDeclaredFields()) {
+            field.setAccessible(true);
+            String key = prefix + field.getName();
+            String value = System.getProperty(key);
+            Class<?> type = field.getType();
+            if (value != null) {
+                if (type == String.class) {
+                    field.set(obj, value);
+                } else if (type == int.class || type == Integer.class) {
+                    field.set(obj, Integer.parseInt(value));
+                } else if (type == long.class || type == Long.class) {
+                    field.set(obj, Long.parseLong(value));
+                } else if (type == boolean.class || type == Boolean.class) {
+                    field.set(obj, Boolean.parseBoolean(value));
+                } else if (type.isEnum()) {
+                    field.set(obj, Stream.of(type.getEnumConstants())
+                            .filter(e -> e.toString().equalsIgnoreCase(value))
+                            .findFirst()
+                            .orElseThrow());
+                }
+            } else if (!type.isPrimitive() && !type.isEnum() && !type.isArray()
+                    && !type.getName().startsWith("java.")) {
+                Object nestedObject = field.get(obj);
+                if (nestedObject == null) {
+                    nestedObject = type.getDeclaredConstructor().newInstance();
+                    field.set(obj, nestedObject);
+                }
+                overrideWithSystemProperties(nestedObject, key + ".");
+            }
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package org.utils;
+
+import org.api.BenchmarkData;
+import org.api.model.Book;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Deep copy of a model object: cached method handles vs. the former Jackson round-trip.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ObjectUtilsBenchmark {
+
+    private Book book;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        book = BenchmarkData.book(1);
+    }
+
+    @Benchmark
+    public Book deepCopy() {
+        return ObjectUtils.deepCopy(book);
+    }
+
+    @Benchmark
+    public Book jacksonConvertValue() {
+        return ObjectMapperRegistry.getApiMapper().convertValue(book, Book.class);
+    }
+}
@@ -0,0 +1,40 @@
+package org.utils;
+
+import org.api.model.Book;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Cost of one book DTO: sequence-based generator vs. the former boxed page-count list and String.format.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TestDataGeneratorBenchmark {
+
+    @Benchmark
+    public Book generator() {
+        return TestDataGenerator.book();
+    }
+
+    @Benchmark
+    public Book boxedListAndFormat() {
+        return new Book()
+                .setTitle(String.format("book-%s-%s", Thread.currentThread().threadId(), System.currentTimeMillis()))
+                .setPageCount(RandomUtils.getRandomElement(IntStream.range(1, 1000).boxed().toList()))
+                .setDescription("Random description");
+    }
+}
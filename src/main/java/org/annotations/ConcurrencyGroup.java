@@ -0,0 +1,28 @@
+package org.annotations;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Declares the shared resource a test uses and how many tests may use it at once.
+ * Tests without the annotation share the {@value #BACKEND} resource with unlimited concurrency.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.METHOD, ElementType.TYPE})
+public @interface ConcurrencyGroup {
+
+    String BACKEND = "backend";
+
+    String value() default BACKEND;
+
+    /**
+     * No other test using the resource runs at the same time
+     */
+    boolean exclusive() default false;
+
+    /**
+     * Maximum number of tests of this group running at the same time, unlimited if not positive
+     */
+    int permits() default 0;
+}
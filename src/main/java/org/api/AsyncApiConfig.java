@@ -0,0 +1,39 @@
+package org.api;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
+
+/**
+ * Asynchronous counterpart of a blocking API client. Each call is still a blocking REST Assured call
+ * through the same filter chain (logging, Allure, metrics, limiter), run on its own virtual thread, so many
+ * requests can be in flight without holding an OS thread each; the connection pool and the limiter bound
+ * them. Where the HttpClient blocks inside synchronized code the virtual thread is pinned to its carrier,
+ * so use {@link org.load.LoadEngine} rather than this client for high-rate load.
+ * The thread is started by the caller, so it inherits the caller's Allure test context and attachments
+ * land on the running test.
+ */
+public abstract class AsyncApiConfig<A extends BaseApiConfig> {
+
+    private static final ExecutorService EXECUTOR = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("async-api-", 0).factory());
+
+    protected final A api;
+
+    protected AsyncApiConfig(A api) {
+        this.api = api;
+    }
+
+    public void setSingleFlight(boolean singleFlight) {
+        api.setSingleFlight(singleFlight);
+    }
+
+    public void setRateLimited(boolean rateLimited) {
+        api.setRateLimited(rateLimited);
+    }
+
+    protected <T> CompletableFuture<ResponseWrapper<T>> sendAsync(Supplier<ResponseWrapper<T>> call) {
+        return CompletableFuture.supplyAsync(call, EXECUTOR);
+    }
+}
@@ -1,87 +1,101 @@
 package org.api;
 
-import com.fasterxml.jackson.annotation.JsonAutoDetect;
-import com.fasterxml.jackson.annotation.JsonInclude;
-import com.fasterxml.jackson.databind.DeserializationFeature;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import io.qameta.allure.Allure;
-import io.qameta.allure.restassured.AllureRestAssured;
 import io.restassured.RestAssured;
+import io.restassured.builder.RequestSpecBuilder;
+import io.restassured.config.HttpClientConfig;
 import io.restassured.config.ObjectMapperConfig;
-import io.restassured.filter.Filter;
-import io.restassured.filter.FilterContext;
-import io.restassured.response.Response;
-import io.restassured.specification.FilterableRequestSpecification;
-import io.restassured.specification.FilterableResponseSpecification;
+import io.restassured.config.RestAssuredConfig;
 import io.restassured.specification.RequestSpecification;
-import lombok.extern.log4j.Log4j2;
-import org.apache.commons.lang3.StringUtils;
+import org.api.filter.AdaptiveConcurrencyFilter;
+import org.api.filter.MetricsFilter;
+import org.api.filter.ResponseCache;
+import org.api.filter.ResponseCacheFilter;
+import org.api.filter.RestAssuredAllureFilter;
+import org.api.filter.SingleFlightFilter;
+import org.api.filter.ThreadLoggingFilter;
+import org.api.stub.LocalApiServer;
 import org.configuration.ConfigurationLoader;
+import org.configuration.model.RateLimitConfiguration;
+import org.utils.ObjectMapperRegistry;
 
-import java.util.function.Function;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 public abstract class BaseApiConfig {
 
-    protected RequestSpecification getClient() {
-        return RestAssured.given().config(io.restassured.config.RestAssuredConfig.config()
-                        .objectMapperConfig(new ObjectMapperConfig().jackson2ObjectMapperFactory((cls, charset) -> {
-                            ObjectMapper objectMapper = new ObjectMapper();
-                            objectMapper.setSerializationInclusion(JsonInclude.Include.NON_NULL);
-                            objectMapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, true);
-                            objectMapper.setVisibility(
-                                    com.fasterxml.jackson.annotation.PropertyAccessor.FIELD,
-                                    JsonAutoDetect.Visibility.ANY
-                            );
-                            return objectMapper;
-                        })))
-                .baseUri(ConfigurationLoader.getAutomationConfiguration().getApplication().getBaseApi())
-                .filter(new ThreadLoggingFilter())
-                .filter(new RestAssuredAllureFilter()
-                        .setResponseAttachmentName("Response"));
-    }
+    private static final PooledHttpClientFactory HTTP_CLIENT_FACTORY =
+            new PooledHttpClientFactory(ConfigurationLoader.getAutomationConfiguration().getHttp());
 
-    private static class RestAssuredAllureFilter extends AllureRestAssured {
-        @Override
-        public Response filter(FilterableRequestSpecification requestSpec, FilterableResponseSpecification responseSpec, FilterContext filterContext) {
-            String method = requestSpec.getMethod();
-            String uri = requestSpec.getURI();
-            String stepName = String.format("%s: %s", method, uri);
-            return Allure.step(stepName, () -> super.filter(requestSpec, responseSpec, filterContext));
-        }
-    }
+    private static final RestAssuredConfig CLIENT_CONFIG = RestAssuredConfig.config()
+            .httpClient(HttpClientConfig.httpClientConfig()
+                    .httpClientFactory(HTTP_CLIENT_FACTORY)
+                    .reuseHttpClientInstance())
+            .objectMapperConfig(new ObjectMapperConfig()
+                    .jackson2ObjectMapperFactory((cls, charset) -> ObjectMapperRegistry.getApiMapper()));
 
-    @Log4j2
-    private static class ThreadLoggingFilter implements Filter {
+    /**
+     * Client templates are built once per base URI and never modified afterwards,
+     * every request merges the template into its own specification.
+     */
+    private static final Map<TemplateKey, RequestSpecification> CLIENT_TEMPLATES = new ConcurrentHashMap<>();
 
-        @Override
-        public Response filter(FilterableRequestSpecification requestSpec,
-                               FilterableResponseSpecification responseSpec,
-                               FilterContext ctx) {
-            boolean isMultipart = requestSpec.getContentType() != null &&
-                    requestSpec.getContentType().toLowerCase().contains("multipart");
-            String requestBody = isMultipart ? "[multipart content omitted]" : requestSpec.getBody();
+    private static final RateLimitConfiguration RATE_LIMIT = ConfigurationLoader.getAutomationConfiguration().getRateLimit();
 
-            Response response = ctx.next(requestSpec, responseSpec);
+    private boolean singleFlight = true;
+    private boolean rateLimited = true;
 
-            boolean isBinary = response.getContentType() != null &&
-                    (response.getContentType().toLowerCase().contains("multipart") ||
-                            response.getContentType().equalsIgnoreCase("application/vnd.openxmlformats-officedocument.spreadsheetml.sheet"));
+    protected RequestSpecification getClient() {
+        TemplateKey key = new TemplateKey(getBaseUri(), singleFlight && SingleFlightFilter.isEnabled(),
+                rateLimited && RATE_LIMIT.isEnabled());
+        return RestAssured.given().spec(CLIENT_TEMPLATES.computeIfAbsent(key, BaseApiConfig::createClientTemplate));
+    }
 
-            String responseBody = isBinary ? "[binary content omitted]" : response.getBody().asString();
+    /**
+     * Clients whose calls measure the server switch request coalescing off, every call is then sent
+     */
+    public void setSingleFlight(boolean singleFlight) {
+        this.singleFlight = singleFlight;
+    }
 
-            Function<String, String> updateBodyTextIfEmpty = text -> StringUtils.isBlank(text) ? "-" : text;
+    /**
+     * Clients whose calls measure the server bypass the adaptive limiter, the load profile alone sets the concurrency
+     */
+    public void setRateLimited(boolean rateLimited) {
+        this.rateLimited = rateLimited;
+    }
 
-            StringBuilder logBuilder = new StringBuilder();
-            logBuilder
-                    .append("Thread - ").append(Thread.currentThread().threadId()).append("\n")
-                    .append("\tURL           : ").append(requestSpec.getMethod()).append(" ").append(requestSpec.getURI()).append("\n")
-                    .append("\tRequest Body  : ").append(updateBodyTextIfEmpty.apply(requestBody)).append("\n")
-                    .append("\tResponse Code : ").append(response.getStatusCode()).append(" ").append("\n")
-                    .append("\tExec Time     : ").append(response.getTime()).append(" ms").append("\n")
-                    .append("\tResponse Body : ").append(updateBodyTextIfEmpty.apply(responseBody));
-            log.info("\n{}", logBuilder);
-            return response;
+    /**
+     * Configured base API, {@code local} is resolved to the embedded {@link LocalApiServer}
+     */
+    static String getBaseUri() {
+        return LocalApiServer.resolveBaseUri(ConfigurationLoader.getSnapshot().getBaseApi());
+    }
+
+    public static PooledHttpClientFactory.ConnectionPoolStats getConnectionPoolStats() {
+        return HTTP_CLIENT_FACTORY.getStats();
+    }
+
+    private static RequestSpecification createClientTemplate(TemplateKey key) {
+        RequestSpecBuilder template = new RequestSpecBuilder()
+                .setConfig(CLIENT_CONFIG)
+                .setBaseUri(key.baseUri())
+                .addFilter(new ThreadLoggingFilter())
+                .addFilter(new RestAssuredAllureFilter()
+                        .setResponseAttachmentName("Response"));
+        if (ResponseCache.isEnabled()) {
+            template.addFilter(new ResponseCacheFilter());
+        }
+        if (key.singleFlight()) {
+            template.addFilter(new SingleFlightFilter());
         }
+        if (key.rateLimited()) {
+            template.addFilter(new AdaptiveConcurrencyFilter(RATE_LIMIT));
+        }
+        return template
+                .addFilter(new MetricsFilter())
+                .build();
     }
 
+    private record TemplateKey(String baseUri, boolean singleFlight, boolean rateLimited) {
+    }
 }
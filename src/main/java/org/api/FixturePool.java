@@ -0,0 +1,130 @@
+package org.api;
+
+import lombok.Value;
+import lombok.extern.log4j.Log4j2;
+import org.api.call.AuthorsApi;
+import org.api.call.BookApi;
+import org.api.model.Author;
+import org.api.model.Book;
+import org.configuration.ConfigurationLoader;
+import org.configuration.model.FixtureConfiguration;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Suite-wide pool of pre-created books, each with exactly one author, for tests that only read data.
+ * A lease is exclusive until the fixture is released; an empty pool creates a new fixture instead of
+ * blocking, so the pool grows to the peak number of concurrent leases. Everything created by the pool
+ * is deleted by {@link #stopInstance()}.
+ * Leased fixtures must not be modified or deleted, tests that change data create their own.
+ */
+@Log4j2
+public class FixturePool {
+
+    private static volatile FixturePool instance;
+
+    private final BookApi bookApi = new BookApi();
+    private final AuthorsApi authorsApi = new AuthorsApi();
+    private final Queue<Fixture> available = new ConcurrentLinkedQueue<>();
+    private final Queue<Fixture> created = new ConcurrentLinkedQueue<>();
+    private final LongAdder leases = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public static FixturePool getInstance() {
+        if (instance == null) {
+            synchronized (FixturePool.class) {
+                if (instance == null) {
+                    instance = new FixturePool();
+                }
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Deletes all fixtures, leased ones included
+     */
+    public static synchronized TestDataCleaner.CleanupReport stopInstance() {
+        if (instance == null) {
+            return null;
+        }
+        FixturePool pool = instance;
+        instance = null;
+        log.info("Fixture pool: {} created, {} leases, {} created on demand", pool.created.size(), pool.leases.sum(),
+                pool.misses.sum());
+        List<Long> authors = pool.created.stream().map(fixture -> fixture.getAuthor().getId()).toList();
+        List<Long> books = pool.created.stream().map(fixture -> fixture.getBook().getId()).toList();
+        return new TestDataCleaner().clean(authors, books);
+    }
+
+    /**
+     * Creates {@code fixture.poolSize} fixtures with {@code fixture.warmUpParallelism} concurrent requests,
+     * failed creations are left to {@link #lease()}
+     */
+    public void warmUp() {
+        FixtureConfiguration configuration = ConfigurationLoader.getAutomationConfiguration().getFixture();
+        if (configuration.getPoolSize() <= 0) {
+            return;
+        }
+        long start = System.nanoTime();
+        try (ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, configuration.getWarmUpParallelism()),
+                Thread.ofPlatform().name("fixture-warm-up-", 0).daemon().factory())) {
+            List<CompletableFuture<Fixture>> fixtures = new ArrayList<>(configuration.getPoolSize());
+            for (int i = 0; i < configuration.getPoolSize(); i++) {
+                fixtures.add(CompletableFuture.supplyAsync(this::create, executor));
+            }
+            for (CompletableFuture<Fixture> fixture : fixtures) {
+                try {
+                    available.add(fixture.join());
+                } catch (CompletionException e) {
+                    log.warn("Fixture warm-up request failed, the fixture will be created on first lease", e.getCause());
+                }
+            }
+        }
+        log.info("Fixture pool warmed up with {} of {} fixtures in {} ms", available.size(), configuration.getPoolSize(),
+                (System.nanoTime() - start) / 1_000_000);
+    }
+
+    public Fixture lease() {
+        leases.increment();
+        Fixture fixture = available.poll();
+        if (fixture == null) {
+            misses.increment();
+            fixture = create();
+        }
+        return fixture;
+    }
+
+    public void release(Fixture fixture) {
+        available.add(fixture);
+    }
+
+    private Fixture create() {
+        Book book = bookApi.createBook(Book.createValidBookDTO()).get();
+        Author author;
+        try {
+            author = authorsApi.createAuthors(Author.createValidAuthorDTOForBook(book.getId())).get();
+        } catch (RuntimeException | AssertionError e) {
+            bookApi.deleteBook(book.getId());
+            throw e;
+        }
+        Fixture fixture = new Fixture(book, author);
+        created.add(fixture);
+        return fixture;
+    }
+
+    @Value
+    public static class Fixture {
+
+        Book book;
+        Author author;
+    }
+}
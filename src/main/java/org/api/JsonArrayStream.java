@@ -0,0 +1,118 @@
+package org.api;
+
+import com.fasterxml.jackson.databind.MappingIterator;
+import io.restassured.builder.ResponseBuilder;
+import lombok.extern.log4j.Log4j2;
+import org.api.filter.HttpExchangeMessage;
+import org.configuration.ConfigurationLoader;
+import org.configuration.model.HttpClientConfiguration;
+import org.metrics.EndpointMetrics;
+import org.metrics.MetricsRegistry;
+import org.utils.ObjectMapperRegistry;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Reads a JSON array response element by element straight from the connection, only the current
+ * element is held in memory. The returned stream must be closed to release the connection.
+ * Bypasses the REST Assured filters, which would buffer the whole body: the exchange is logged and recorded
+ * in {@link MetricsRegistry} here, timed until the response headers arrive, but it is not attached to Allure,
+ * cached or rate limited.
+ */
+@Log4j2
+public class JsonArrayStream {
+
+    private static final HttpClientConfiguration CONFIGURATION = ConfigurationLoader.getAutomationConfiguration().getHttp();
+
+    private static final HttpClient HTTP_CLIENT = createHttpClient();
+
+    public static <T> Stream<T> get(String path, Class<T> elementType) {
+        HttpRequest.Builder requestBuilder = HttpRequest.newBuilder(URI.create(BaseApiConfig.getBaseUri() + path))
+                .header("Accept", "application/json")
+                .GET();
+        if (CONFIGURATION.getSocketTimeoutMillis() > 0) {
+            requestBuilder.timeout(Duration.ofMillis(CONFIGURATION.getSocketTimeoutMillis()));
+        }
+        HttpRequest request = requestBuilder.build();
+        EndpointMetrics metrics = MetricsRegistry.endpoint(request.method(), path);
+        long start = System.nanoTime();
+        HttpResponse<InputStream> response;
+        try {
+            response = send(request);
+        } catch (RuntimeException e) {
+            metrics.recordFailure(0, start, System.nanoTime());
+            throw e;
+        }
+        long end = System.nanoTime();
+        metrics.record(response.statusCode(), 0,
+                response.headers().firstValueAsLong("Content-Length").orElse(0), start, end);
+        log.info(new HttpExchangeMessage(Thread.currentThread().threadId(), request.method(), request.uri().toString(),
+                null, response.statusCode(), Duration.ofNanos(end - start).toMillis(), "[streamed]"));
+        InputStream body = response.body();
+        if (response.statusCode() < 200 || response.statusCode() > 299) {
+            failOnStatus(response, body);
+        }
+        try {
+            MappingIterator<T> iterator = ObjectMapperRegistry.readerFor(elementType).readValues(body);
+            return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator,
+                            Spliterator.ORDERED | Spliterator.NONNULL), false)
+                    .onClose(() -> close(iterator));
+        } catch (IOException e) {
+            close(body);
+            throw new UncheckedIOException("Unable to read JSON array from " + request.uri(), e);
+        }
+    }
+
+    private static HttpClient createHttpClient() {
+        HttpClient.Builder builder = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1);
+        if (CONFIGURATION.getConnectTimeoutMillis() > 0) {
+            builder.connectTimeout(Duration.ofMillis(CONFIGURATION.getConnectTimeoutMillis()));
+        }
+        return builder.build();
+    }
+
+    private static HttpResponse<InputStream> send(HttpRequest request) {
+        try {
+            return HTTP_CLIENT.send(request, HttpResponse.BodyHandlers.ofInputStream());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Request failed: " + request.uri(), e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for " + request.uri(), e);
+        }
+    }
+
+    /**
+     * Error bodies are small, they are buffered to fail with the same assertion as {@link ResponseWrapper#get()}
+     */
+    private static void failOnStatus(HttpResponse<InputStream> response, InputStream body) {
+        try (body) {
+            ResponseWrapper.assertSuccessStatusCode(new ResponseBuilder()
+                    .setStatusCode(response.statusCode())
+                    .setContentType(response.headers().firstValue("Content-Type").orElse(""))
+                    .setBody(body.readAllBytes())
+                    .build());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void close(AutoCloseable closeable) {
+        try {
+            closeable.close();
+        } catch (Exception e) {
+            log.debug("Unable to close streamed response", e);
+        }
+    }
+}
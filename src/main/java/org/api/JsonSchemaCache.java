@@ -0,0 +1,122 @@
+package org.api;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.github.fge.jackson.JsonLoader;
+import com.github.fge.jsonschema.core.exceptions.ProcessingException;
+import com.github.fge.jsonschema.core.report.ProcessingReport;
+import com.github.fge.jsonschema.main.JsonSchema;
+import com.github.fge.jsonschema.main.JsonSchemaFactory;
+import lombok.extern.log4j.Log4j2;
+import org.hamcrest.Description;
+import org.hamcrest.Matcher;
+import org.hamcrest.TypeSafeMatcher;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+/**
+ * Process-wide cache of compiled JSON schemas. A schema file is parsed and compiled once and
+ * recompiled only when its modification time changes; compiled schemas are immutable and
+ * shared between threads.
+ */
+@Log4j2
+public class JsonSchemaCache {
+
+    private static final JsonSchemaFactory SCHEMA_FACTORY = JsonSchemaFactory.byDefault();
+    private static final Map<Path, CompiledSchema> SCHEMAS = new ConcurrentHashMap<>();
+
+    public static Matcher<String> matchesJsonSchema(Path path) {
+        return new CompiledSchemaMatcher(getSchema(path));
+    }
+
+    public static JsonSchema getSchema(Path path) {
+        Path key = path.toAbsolutePath().normalize();
+        FileTime lastModified = lastModified(key);
+        CompiledSchema cached = SCHEMAS.get(key);
+        if (cached != null && cached.lastModified().equals(lastModified)) {
+            return cached.schema();
+        }
+        return SCHEMAS.compute(key, (schemaPath, current) ->
+                current != null && current.lastModified().equals(lastModified)
+                        ? current
+                        : compile(schemaPath, lastModified)).schema();
+    }
+
+    /**
+     * Compiles every *.json schema under the directory, missing directory is ignored
+     */
+    public static int warmUp(Path directory) {
+        if (directory == null || !Files.isDirectory(directory)) {
+            log.debug("Schema warm-up skipped, directory not found: {}", directory);
+            return 0;
+        }
+        List<Path> schemas;
+        try (Stream<Path> files = Files.walk(directory)) {
+            schemas = files.filter(Files::isRegularFile)
+                    .filter(file -> file.getFileName().toString().endsWith(".json"))
+                    .toList();
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Unable to read schema directory: " + directory, e);
+        }
+        schemas.parallelStream().forEach(JsonSchemaCache::getSchema);
+        log.info("Precompiled {} JSON schemas from {}", schemas.size(), directory);
+        return schemas.size();
+    }
+
+    private static FileTime lastModified(Path path) {
+        try {
+            return Files.getLastModifiedTime(path);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Path for schema not provided or invalid", e);
+        }
+    }
+
+    private static CompiledSchema compile(Path path, FileTime lastModified) {
+        try {
+            JsonSchema schema = SCHEMA_FACTORY.getJsonSchema(JsonLoader.fromFile(path.toFile()));
+            log.debug("Compiled JSON schema {}", path);
+            return new CompiledSchema(schema, lastModified);
+        } catch (IOException | ProcessingException e) {
+            throw new IllegalArgumentException("Unable to compile JSON schema: " + path, e);
+        }
+    }
+
+    private record CompiledSchema(JsonSchema schema, FileTime lastModified) {
+    }
+
+    private static class CompiledSchemaMatcher extends TypeSafeMatcher<String> {
+
+        private final JsonSchema schema;
+        private ProcessingReport report;
+
+        CompiledSchemaMatcher(JsonSchema schema) {
+            this.schema = schema;
+        }
+
+        @Override
+        protected boolean matchesSafely(String content) {
+            try {
+                JsonNode instance = JsonLoader.fromString(content);
+                report = schema.validate(instance);
+                return report.isSuccess();
+            } catch (IOException | ProcessingException e) {
+                throw new IllegalStateException("Unable to validate response against JSON schema", e);
+            }
+        }
+
+        @Override
+        public void describeTo(Description description) {
+            if (report != null) {
+                description.appendText("The content to match the given JSON schema.\n").appendText(report.toString());
+            } else {
+                description.appendText("The content to match the given JSON schema.");
+            }
+        }
+    }
+}
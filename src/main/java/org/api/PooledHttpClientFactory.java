@@ -0,0 +1,154 @@
+package org.api;
+
+import io.restassured.config.HttpClientConfig;
+import lombok.Value;
+import lombok.extern.log4j.Log4j2;
+import org.apache.http.HeaderElement;
+import org.apache.http.HttpEntity;
+import org.apache.http.HttpResponse;
+import org.apache.http.client.HttpClient;
+import org.apache.http.conn.ClientConnectionOperator;
+import org.apache.http.conn.ClientConnectionRequest;
+import org.apache.http.conn.ConnectionKeepAliveStrategy;
+import org.apache.http.conn.OperatedClientConnection;
+import org.apache.http.conn.routing.HttpRoute;
+import org.apache.http.conn.scheme.SchemeRegistry;
+import org.apache.http.entity.ByteArrayEntity;
+import org.apache.http.impl.client.DefaultHttpClient;
+import org.apache.http.impl.conn.DefaultClientConnectionOperator;
+import org.apache.http.impl.conn.PoolingClientConnectionManager;
+import org.apache.http.impl.conn.SchemeRegistryFactory;
+import org.apache.http.message.BasicHeaderElementIterator;
+import org.apache.http.params.HttpConnectionParams;
+import org.apache.http.pool.PoolStats;
+import org.apache.http.protocol.HTTP;
+import org.apache.http.protocol.HttpContext;
+import org.configuration.model.HttpClientConfiguration;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Hands the same pooled, keep-alive HttpClient to every request instead of letting REST Assured
+ * open a new client (and new TCP/TLS connections) per call.
+ * REST Assured only accepts {@link org.apache.http.impl.client.AbstractHttpClient} instances,
+ * that is why the pre-4.3 HttpClient API is used here.
+ */
+@Log4j2
+@SuppressWarnings("deprecation")
+public class PooledHttpClientFactory implements HttpClientConfig.HttpClientFactory {
+
+    private final CountingConnectionManager connectionManager;
+    private final DefaultHttpClient httpClient;
+
+    public PooledHttpClientFactory(HttpClientConfiguration configuration) {
+        connectionManager = new CountingConnectionManager(configuration.getConnectionTtlSeconds());
+        connectionManager.setMaxTotal(configuration.getMaxConnectionsTotal());
+        connectionManager.setDefaultMaxPerRoute(configuration.getMaxConnectionsPerRoute());
+
+        httpClient = new DefaultHttpClient(connectionManager);
+        HttpConnectionParams.setConnectionTimeout(httpClient.getParams(), configuration.getConnectTimeoutMillis());
+        HttpConnectionParams.setSoTimeout(httpClient.getParams(), configuration.getSocketTimeoutMillis());
+        httpClient.setKeepAliveStrategy(keepAliveStrategy(configuration.getKeepAliveSeconds()));
+        httpClient.addResponseInterceptor(PooledHttpClientFactory::detachEmptyEntity);
+
+        if (configuration.getIdleEvictionSeconds() > 0) {
+            startIdleConnectionEviction(configuration.getIdleEvictionSeconds());
+        }
+    }
+
+    @Override
+    public HttpClient createHttpClient() {
+        return httpClient;
+    }
+
+    public ConnectionPoolStats getStats() {
+        PoolStats poolStats = connectionManager.getTotalStats();
+        long leased = connectionManager.leases.sum();
+        long opened = connectionManager.openedConnections.sum();
+        return new ConnectionPoolStats(leased, opened, leased - opened,
+                poolStats.getLeased(), poolStats.getAvailable(), poolStats.getMax());
+    }
+
+    private void startIdleConnectionEviction(int idleSeconds) {
+        ScheduledExecutorService evictor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "http-idle-connection-evictor");
+            thread.setDaemon(true);
+            return thread;
+        });
+        evictor.scheduleWithFixedDelay(() -> {
+            connectionManager.closeExpiredConnections();
+            connectionManager.closeIdleConnections(idleSeconds, TimeUnit.SECONDS);
+        }, idleSeconds, idleSeconds, TimeUnit.SECONDS);
+    }
+
+    /**
+     * REST Assured never reads a zero-length body, so the connection would stay leased until the pool is exhausted.
+     * A non-streaming entity lets the client return the connection right away.
+     */
+    private static void detachEmptyEntity(HttpResponse response, HttpContext context) {
+        HttpEntity entity = response.getEntity();
+        if (entity != null && entity.getContentLength() == 0) {
+            ByteArrayEntity emptyEntity = new ByteArrayEntity(new byte[0]);
+            emptyEntity.setContentType(entity.getContentType());
+            response.setEntity(emptyEntity);
+        }
+    }
+
+    private static ConnectionKeepAliveStrategy keepAliveStrategy(int defaultKeepAliveSeconds) {
+        return (response, context) -> {
+            BasicHeaderElementIterator iterator = new BasicHeaderElementIterator(response.headerIterator(HTTP.CONN_KEEP_ALIVE));
+            while (iterator.hasNext()) {
+                HeaderElement element = iterator.nextElement();
+                if ("timeout".equalsIgnoreCase(element.getName()) && element.getValue() != null) {
+                    try {
+                        return Long.parseLong(element.getValue()) * 1000;
+                    } catch (NumberFormatException e) {
+                        log.debug("Ignoring invalid keep-alive timeout: {}", element.getValue());
+                    }
+                }
+            }
+            return TimeUnit.SECONDS.toMillis(defaultKeepAliveSeconds);
+        };
+    }
+
+    @Value
+    public static class ConnectionPoolStats {
+
+        long requests;
+        long connectionsOpened;
+        long connectionsReused;
+        int leased;
+        int available;
+        int max;
+    }
+
+    private static class CountingConnectionManager extends PoolingClientConnectionManager {
+
+        private final LongAdder leases = new LongAdder();
+        private final LongAdder openedConnections = new LongAdder();
+
+        CountingConnectionManager(long timeToLiveSeconds) {
+            super(SchemeRegistryFactory.createDefault(), timeToLiveSeconds, TimeUnit.SECONDS);
+        }
+
+        @Override
+        public ClientConnectionRequest requestConnection(HttpRoute route, Object state) {
+            leases.increment();
+            return super.requestConnection(route, state);
+        }
+
+        @Override
+        protected ClientConnectionOperator createConnectionOperator(SchemeRegistry schemeRegistry) {
+            return new DefaultClientConnectionOperator(schemeRegistry) {
+                @Override
+                public OperatedClientConnection createConnection() {
+                    openedConnections.increment();
+                    return super.createConnection();
+                }
+            };
+        }
+    }
+}
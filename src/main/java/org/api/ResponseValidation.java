@@ -5,11 +5,8 @@ import io.restassured.response.Response;
 import org.assertj.core.api.AssertionsForClassTypes;
 import org.assertj.core.api.ObjectAssert;
 
-import java.nio.file.Files;
 import java.nio.file.Path;
 
-import static io.restassured.module.jsv.JsonSchemaValidator.matchesJsonSchema;
-
 public class ResponseValidation {
 
     private Response response;
@@ -42,10 +39,10 @@ public class ResponseValidation {
     }
 
     private ResponseValidation validateSchemaInternal(Path path) {
-        if (path == null || !Files.exists(path)) {
+        if (path == null) {
             throw new IllegalArgumentException("Path for schema not provided or invalid");
         }
-        response.then().body(matchesJsonSchema(path.toFile()));
+        response.then().body(JsonSchemaCache.matchesJsonSchema(path));
         return this;
     }
 
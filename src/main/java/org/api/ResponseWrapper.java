@@ -3,6 +3,7 @@ package org.api;
 import io.restassured.common.mapper.TypeRef;
 import io.restassured.response.Response;
 import org.assertj.core.api.Assertions;
+import org.hamcrest.Matcher;
 import org.hamcrest.Matchers;
 
 import java.nio.file.Path;
@@ -11,6 +12,17 @@ import java.util.stream.IntStream;
 
 public class ResponseWrapper<T> {
 
+    private static final int SUCCESS_STATUS_CODE_FROM = 200;
+    private static final int SUCCESS_STATUS_CODE_TO = 299;
+
+    /**
+     * Only used to build the assertion error, successful responses are checked against the range directly
+     */
+    private static final Matcher<Integer> SUCCESS_STATUS_CODE_MATCHER = Matchers.describedAs("Expected status code (200–299)",
+            Matchers.is(Matchers.in(IntStream.rangeClosed(SUCCESS_STATUS_CODE_FROM, SUCCESS_STATUS_CODE_TO)
+                    .boxed()
+                    .collect(Collectors.toList()))));
+
     private final Response response;
     private Class<T> tClass;
     private TypeRef<T> tTypeRef;
@@ -45,12 +57,11 @@ public class ResponseWrapper<T> {
     }
 
     public T get() {
-        var matcher = Matchers.describedAs("Expected status code (200–299)",
-                Matchers.is(Matchers.in(IntStream.rangeClosed(200, 299)
-                        .boxed()
-                        .collect(Collectors.toList()))));
-        response.then()
-                .statusCode(matcher);
+        assertSuccessStatusCode(response);
+        if (tClass == Void.class) {
+            // e.g. DELETE answers 200 with an empty body and no content type, there is nothing to map
+            return null;
+        }
         if (tClass != null) {
             return response.as(tClass);
         } else {
@@ -58,6 +69,14 @@ public class ResponseWrapper<T> {
         }
     }
 
+    static void assertSuccessStatusCode(Response response) {
+        int statusCode = response.getStatusCode();
+        if (statusCode < SUCCESS_STATUS_CODE_FROM || statusCode > SUCCESS_STATUS_CODE_TO) {
+            response.then()
+                    .statusCode(SUCCESS_STATUS_CODE_MATCHER);
+        }
+    }
+
     public Response asRaw() {
         return response;
     }
@@ -0,0 +1,147 @@
+package org.api;
+
+import lombok.Value;
+import lombok.extern.log4j.Log4j2;
+import org.api.call.AuthorsApi;
+import org.api.call.BookApi;
+import org.configuration.ConfigurationLoader;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongFunction;
+
+/**
+ * Deletes test data through the API with bounded parallelism. Authors are removed before books because
+ * they reference them; a 404 counts as removed (the test already deleted the entity), any other outcome
+ * is collected as a failure.
+ * All test threads share one worker pool, so {@code cleanup.parallelism} caps the DELETE requests in flight
+ * for the whole suite. Workers are platform threads for the same reason as in {@link org.load.LoadEngine}.
+ */
+@Log4j2
+public class TestDataCleaner {
+
+    private static final ExecutorService WORKERS = Executors.newFixedThreadPool(
+            Math.max(1, ConfigurationLoader.getAutomationConfiguration().getCleanup().getParallelism()),
+            Thread.ofPlatform().name("cleanup-worker-", 0).daemon().factory());
+
+    private static final Queue<Long> DEFERRED_AUTHORS = new ConcurrentLinkedQueue<>();
+    private static final Queue<Long> DEFERRED_BOOKS = new ConcurrentLinkedQueue<>();
+
+    private static final LongAdder TOTAL_AUTHORS = new LongAdder();
+    private static final LongAdder TOTAL_BOOKS = new LongAdder();
+    private static final LongAdder TOTAL_NANOS = new LongAdder();
+    private static final Queue<String> TOTAL_FAILURES = new ConcurrentLinkedQueue<>();
+
+    private final AuthorsApi authorsApi = new AuthorsApi();
+    private final BookApi bookApi = new BookApi();
+
+    public static boolean isDeferred() {
+        return ConfigurationLoader.getAutomationConfiguration().getCleanup().isDeferred();
+    }
+
+    public CleanupReport clean(Collection<Long> authorIds, Collection<Long> bookIds) {
+        long start = System.nanoTime();
+        List<String> failures = new ArrayList<>();
+        int authors = deleteAll("author", authorIds, authorsApi::deleteAuthor, failures);
+        int books = deleteAll("book", bookIds, bookApi::deleteBook, failures);
+        CleanupReport report = new CleanupReport(authors, books, failures, Duration.ofNanos(System.nanoTime() - start));
+
+        TOTAL_AUTHORS.add(authors);
+        TOTAL_BOOKS.add(books);
+        TOTAL_NANOS.add(report.getDuration().toNanos());
+        TOTAL_FAILURES.addAll(failures);
+        if (!failures.isEmpty()) {
+            log.warn("Cleanup left {} entities behind: {}", failures.size(), failures);
+        }
+        return report;
+    }
+
+    /**
+     * Queues the ids for {@link #drain()}
+     */
+    public static void defer(Collection<Long> authorIds, Collection<Long> bookIds) {
+        DEFERRED_AUTHORS.addAll(authorIds);
+        DEFERRED_BOOKS.addAll(bookIds);
+    }
+
+    /**
+     * Removes everything queued by {@link #defer(Collection, Collection)}, all authors first
+     */
+    public CleanupReport drain() {
+        return clean(poll(DEFERRED_AUTHORS), poll(DEFERRED_BOOKS));
+    }
+
+    /**
+     * Everything removed so far, duration is the summed wall time of all cleanups
+     */
+    public static CleanupReport getTotals() {
+        return new CleanupReport(TOTAL_AUTHORS.intValue(), TOTAL_BOOKS.intValue(), List.copyOf(TOTAL_FAILURES),
+                Duration.ofNanos(TOTAL_NANOS.sum()));
+    }
+
+    private static int deleteAll(String type, Collection<Long> ids, LongFunction<ResponseWrapper<Void>> delete,
+                                 List<String> failures) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        List<CompletableFuture<String>> deletions = new ArrayList<>(ids.size());
+        for (long id : ids) {
+            deletions.add(CompletableFuture.supplyAsync(() -> delete(type, id, delete), WORKERS));
+        }
+        int deleted = 0;
+        for (CompletableFuture<String> deletion : deletions) {
+            String failure = deletion.join();
+            if (failure == null) {
+                deleted++;
+            } else {
+                failures.add(failure);
+            }
+        }
+        return deleted;
+    }
+
+    private static String delete(String type, long id, LongFunction<ResponseWrapper<Void>> delete) {
+        try {
+            long statusCode = delete.apply(id).getStatusCode();
+            if ((statusCode >= 200 && statusCode <= 299) || statusCode == 404) {
+                return null;
+            }
+            return "%s %d: status %d".formatted(type, id, statusCode);
+        } catch (Exception e) {
+            // also checked I/O exceptions, REST Assured rethrows them undeclared
+            return "%s %d: %s".formatted(type, id, e);
+        }
+    }
+
+    private static List<Long> poll(Queue<Long> queue) {
+        List<Long> ids = new ArrayList<>();
+        Long id;
+        while ((id = queue.poll()) != null) {
+            ids.add(id);
+        }
+        return ids;
+    }
+
+    @Value
+    public static class CleanupReport {
+
+        int authorsDeleted;
+        int booksDeleted;
+        List<String> failures;
+        Duration duration;
+
+        @Override
+        public String toString() {
+            return "%d authors and %d books deleted in %d ms, %d failures".formatted(authorsDeleted, booksDeleted,
+                    duration.toMillis(), failures.size());
+        }
+    }
+}
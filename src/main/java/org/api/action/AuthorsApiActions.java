@@ -2,19 +2,28 @@ package org.api.action;
 
 import lombok.Getter;
 import org.api.call.AuthorsApi;
+import org.api.call.AuthorsAsyncApi;
 import org.api.model.Author;
 
 import java.util.List;
+import java.util.stream.Stream;
 
 public class AuthorsApiActions {
 
     @Getter
     private final AuthorsApi authorsApi = new AuthorsApi();
 
+    @Getter
+    private final AuthorsAsyncApi authorsAsyncApi = new AuthorsAsyncApi();
+
     public List<Author> getAuthors() {
         return authorsApi.getAuthors().get();
     }
 
+    public Stream<Author> streamAuthors() {
+        return authorsApi.streamAuthors();
+    }
+
     public Author createAuthors(Author author) {
         return authorsApi.createAuthors(author).get();
     }
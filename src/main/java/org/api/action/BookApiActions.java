@@ -3,9 +3,11 @@ package org.api.action;
 import io.qameta.allure.Step;
 import lombok.Getter;
 import org.api.call.BookApi;
+import org.api.call.BookAsyncApi;
 import org.api.model.Book;
 
 import java.util.List;
+import java.util.stream.Stream;
 
 
 public class BookApiActions {
@@ -13,11 +15,19 @@ public class BookApiActions {
     @Getter
     private final BookApi bookApi = new BookApi();
 
+    @Getter
+    private final BookAsyncApi bookAsyncApi = new BookAsyncApi();
+
     @Step("Get all books")
     public List<Book> getBooks() {
         return bookApi.getBooks().get();
     }
 
+    @Step("Stream all books")
+    public Stream<Book> streamBooks() {
+        return bookApi.streamBooks();
+    }
+
     @Step("Create book with title: `{book.title}`")
     public Book createBook(Book book) {
         return bookApi.createBook(book).get();
@@ -3,10 +3,12 @@ package org.api.call;
 import io.restassured.common.mapper.TypeRef;
 import io.restassured.http.ContentType;
 import org.api.BaseApiConfig;
+import org.api.JsonArrayStream;
 import org.api.ResponseWrapper;
 import org.api.model.Author;
 
 import java.util.List;
+import java.util.stream.Stream;
 
 public class AuthorsApi extends BaseApiConfig {
 
@@ -17,6 +19,13 @@ public class AuthorsApi extends BaseApiConfig {
         });
     }
 
+    /**
+     * All authors read one by one from the response, the stream must be closed
+     */
+    public Stream<Author> streamAuthors() {
+        return JsonArrayStream.get(PATH, Author.class);
+    }
+
     public ResponseWrapper<Author> createAuthors(Author author) {
         return ResponseWrapper.of(getClient()
                 .contentType(ContentType.JSON)
@@ -0,0 +1,39 @@
+package org.api.call;
+
+import org.api.AsyncApiConfig;
+import org.api.ResponseWrapper;
+import org.api.model.Author;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+public class AuthorsAsyncApi extends AsyncApiConfig<AuthorsApi> {
+
+    public AuthorsAsyncApi() {
+        super(new AuthorsApi());
+    }
+
+    public CompletableFuture<ResponseWrapper<List<Author>>> getAuthors() {
+        return sendAsync(api::getAuthors);
+    }
+
+    public CompletableFuture<ResponseWrapper<Author>> createAuthors(Author author) {
+        return sendAsync(() -> api.createAuthors(author));
+    }
+
+    public CompletableFuture<ResponseWrapper<Author>> getAuthorByBookId(long bookId) {
+        return sendAsync(() -> api.getAuthorByBookId(bookId));
+    }
+
+    public CompletableFuture<ResponseWrapper<Author>> getAuthorById(long authorId) {
+        return sendAsync(() -> api.getAuthorById(authorId));
+    }
+
+    public CompletableFuture<ResponseWrapper<Author>> updateAuthor(long authorId, Author author) {
+        return sendAsync(() -> api.updateAuthor(authorId, author));
+    }
+
+    public CompletableFuture<ResponseWrapper<Void>> deleteAuthor(long authorId) {
+        return sendAsync(() -> api.deleteAuthor(authorId));
+    }
+}
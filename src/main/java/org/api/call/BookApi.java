@@ -3,10 +3,12 @@ package org.api.call;
 import io.restassured.common.mapper.TypeRef;
 import io.restassured.http.ContentType;
 import org.api.BaseApiConfig;
+import org.api.JsonArrayStream;
 import org.api.ResponseWrapper;
 import org.api.model.Book;
 
 import java.util.List;
+import java.util.stream.Stream;
 
 public class BookApi extends BaseApiConfig {
 
@@ -17,6 +19,13 @@ public class BookApi extends BaseApiConfig {
         });
     }
 
+    /**
+     * All books read one by one from the response, the stream must be closed
+     */
+    public Stream<Book> streamBooks() {
+        return JsonArrayStream.get(PATH, Book.class);
+    }
+
     public ResponseWrapper<Book> createBook(Book book) {
         return ResponseWrapper.of(getClient()
                 .contentType(ContentType.JSON)
@@ -0,0 +1,35 @@
+package org.api.call;
+
+import org.api.AsyncApiConfig;
+import org.api.ResponseWrapper;
+import org.api.model.Book;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+public class BookAsyncApi extends AsyncApiConfig<BookApi> {
+
+    public BookAsyncApi() {
+        super(new BookApi());
+    }
+
+    public CompletableFuture<ResponseWrapper<List<Book>>> getBooks() {
+        return sendAsync(api::getBooks);
+    }
+
+    public CompletableFuture<ResponseWrapper<Book>> createBook(Book book) {
+        return sendAsync(() -> api.createBook(book));
+    }
+
+    public CompletableFuture<ResponseWrapper<Book>> getBook(long bookId) {
+        return sendAsync(() -> api.getBook(bookId));
+    }
+
+    public CompletableFuture<ResponseWrapper<Book>> updateBook(long bookId, Book book) {
+        return sendAsync(() -> api.updateBook(bookId, book));
+    }
+
+    public CompletableFuture<ResponseWrapper<Void>> deleteBook(long bookId) {
+        return sendAsync(() -> api.deleteBook(bookId));
+    }
+}
@@ -0,0 +1,80 @@
+package org.api.filter;
+
+import io.restassured.filter.Filter;
+import io.restassured.filter.FilterContext;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+import lombok.extern.log4j.Log4j2;
+import org.configuration.model.RateLimitConfiguration;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Sends requests through the {@link AdaptiveLimiter} of their method and route, so raising the test thread
+ * count (or retrying) queues requests on the client instead of pushing the backend into 429/5xx.
+ * Added right before {@link MetricsFilter}, time spent waiting for a permit is not part of the endpoint latency.
+ */
+@Log4j2
+public class AdaptiveConcurrencyFilter implements Filter {
+
+    private static final Map<String, AdaptiveLimiter> LIMITERS = new ConcurrentHashMap<>();
+
+    private final RateLimitConfiguration configuration;
+
+    public AdaptiveConcurrencyFilter(RateLimitConfiguration configuration) {
+        this.configuration = configuration;
+    }
+
+    /**
+     * Current concurrency limit per endpoint
+     */
+    public static Map<String, Double> limits() {
+        Map<String, Double> limits = new TreeMap<>();
+        LIMITERS.forEach((endpoint, limiter) -> limits.put(endpoint, limiter.getLimit()));
+        return limits;
+    }
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec,
+                           FilterableResponseSpecification responseSpec,
+                           FilterContext ctx) {
+        AdaptiveLimiter limiter = LIMITERS.computeIfAbsent(requestSpec.getMethod() + " " + MetricsFilter.route(requestSpec),
+                endpoint -> new AdaptiveLimiter(configuration));
+        try {
+            limiter.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for a request permit", e);
+        }
+        long start = System.nanoTime();
+        Response response = null;
+        try {
+            response = ctx.next(requestSpec, responseSpec);
+            return response;
+        } finally {
+            // REST Assured rethrows checked I/O exceptions undeclared, a missing response counts as overload
+            if (response == null) {
+                limiter.release(System.nanoTime() - start, true, 0);
+            } else {
+                int statusCode = response.getStatusCode();
+                limiter.release(System.nanoTime() - start, statusCode == 429 || statusCode >= 500, retryAfterSeconds(response));
+            }
+        }
+    }
+
+    private static long retryAfterSeconds(Response response) {
+        String retryAfter = response.getHeader("Retry-After");
+        if (retryAfter == null) {
+            return 0;
+        }
+        try {
+            return Long.parseLong(retryAfter.trim());
+        } catch (NumberFormatException e) {
+            log.debug("Ignoring Retry-After that is not in seconds: {}", retryAfter);
+            return 0;
+        }
+    }
+}
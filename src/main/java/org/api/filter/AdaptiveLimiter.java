@@ -0,0 +1,134 @@
+package org.api.filter;
+
+import org.configuration.model.RateLimitConfiguration;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Concurrency and rate limit of one route. The concurrency limit follows AIMD: it grows by 1/limit per
+ * successful response while the limit is in use and is multiplied by the backoff ratio on overload, at most
+ * once per round trip. Overload is an error status, a failed exchange, or a smoothed round trip well above
+ * the lowest one seen (Vegas-style queueing signal). A {@code Retry-After} pauses the route.
+ * Waiting uses a {@link ReentrantLock} rather than monitors so virtual-thread test workers are not pinned.
+ */
+public class AdaptiveLimiter {
+
+    /**
+     * The lowest round trip may rise by 10% per window of samples, so a slower backend is accepted
+     * without a queue-inflated sample becoming the new baseline
+     */
+    private static final int MIN_RTT_WINDOW = 1000;
+    private static final double MIN_RTT_DRIFT = 1.1;
+    private static final double RTT_SMOOTHING = 0.1;
+    /**
+     * First round trips of a route include JIT, class loading and connection setup, they are not queueing
+     */
+    private static final int WARM_UP_SAMPLES = 20;
+
+    private final RateLimitConfiguration configuration;
+    private final long latencyMarginNanos;
+    private final long nanosPerRequest;
+    private final long acquireTimeoutNanos;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition changed = lock.newCondition();
+
+    private double limit;
+    private int inFlight;
+    private long samples;
+    private long minRtt;
+    private long windowMinRtt = Long.MAX_VALUE;
+    private double smoothedRtt;
+    private long lastDecrease;
+    private long nextPermit = System.nanoTime();
+    private long pausedUntil;
+
+    AdaptiveLimiter(RateLimitConfiguration configuration) {
+        this.configuration = configuration;
+        this.limit = configuration.getInitialConcurrency();
+        this.latencyMarginNanos = TimeUnit.MILLISECONDS.toNanos(configuration.getLatencyMarginMillis());
+        this.nanosPerRequest = configuration.getMaxRatePerSecond() > 0
+                ? TimeUnit.SECONDS.toNanos(1) / configuration.getMaxRatePerSecond()
+                : 0;
+        this.acquireTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(configuration.getAcquireTimeoutMillis());
+    }
+
+    public double getLimit() {
+        lock.lock();
+        try {
+            return limit;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Blocks until the request may be sent
+     *
+     * @throws IllegalStateException if no permit is granted within {@code rateLimit.acquireTimeoutMillis}
+     */
+    void acquire() throws InterruptedException {
+        long deadline = System.nanoTime() + acquireTimeoutNanos;
+        lock.lock();
+        try {
+            while (true) {
+                long now = System.nanoTime();
+                long wait = Math.max(pausedUntil - now, nanosPerRequest > 0 ? nextPermit - now : 0);
+                if (inFlight < (int) limit && wait <= 0) {
+                    break;
+                }
+                if (now - deadline >= 0) {
+                    throw new IllegalStateException("No request permit within %d ms, %d of %.1f in flight"
+                            .formatted(configuration.getAcquireTimeoutMillis(), inFlight, limit));
+                }
+                changed.awaitNanos(wait > 0 ? Math.min(wait, deadline - now) : deadline - now);
+            }
+            inFlight++;
+            if (nanosPerRequest > 0) {
+                nextPermit = Math.max(nextPermit, System.nanoTime() - nanosPerRequest) + nanosPerRequest;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @param retryAfterSeconds pause requested by the server, 0 if none
+     */
+    void release(long rttNanos, boolean overloaded, long retryAfterSeconds) {
+        lock.lock();
+        try {
+            inFlight--;
+            long now = System.nanoTime();
+            if (retryAfterSeconds > 0) {
+                pausedUntil = Math.max(pausedUntil, now + TimeUnit.SECONDS.toNanos(retryAfterSeconds));
+            }
+            windowMinRtt = Math.min(windowMinRtt, rttNanos);
+            if (minRtt == 0 || rttNanos < minRtt) {
+                // a new lowest round trip means the estimate was still carrying warm-up samples
+                minRtt = rttNanos;
+                smoothedRtt = rttNanos;
+            } else {
+                smoothedRtt += RTT_SMOOTHING * (rttNanos - smoothedRtt);
+                if (++samples % MIN_RTT_WINDOW == 0) {
+                    minRtt = Math.min(windowMinRtt, (long) (minRtt * MIN_RTT_DRIFT));
+                    windowMinRtt = Long.MAX_VALUE;
+                }
+            }
+            boolean queueing = samples >= WARM_UP_SAMPLES
+                    && smoothedRtt > Math.max(minRtt * configuration.getLatencyTolerance(), minRtt + latencyMarginNanos);
+            if (overloaded || queueing) {
+                if (now - lastDecrease >= smoothedRtt) {
+                    limit = Math.max(configuration.getMinConcurrency(), limit * configuration.getBackoffRatio());
+                    lastDecrease = now;
+                }
+            } else if (inFlight + 1 >= limit / 2) {
+                limit = Math.min(configuration.getMaxConcurrency(), limit + 1 / limit);
+            }
+            changed.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+}
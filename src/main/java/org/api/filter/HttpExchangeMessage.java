@@ -0,0 +1,69 @@
+package org.api.filter;
+
+import org.apache.commons.lang3.StringUtils;
+import org.apache.logging.log4j.message.AsynchronouslyFormattable;
+import org.apache.logging.log4j.message.Message;
+import org.apache.logging.log4j.util.StringBuilderFormattable;
+
+/**
+ * Immutable request log record. The caller thread only captures the values, the text is built
+ * by the async appender thread straight into the layout buffer.
+ */
+@AsynchronouslyFormattable
+public class HttpExchangeMessage implements Message, StringBuilderFormattable {
+
+    private final long threadId;
+    private final String method;
+    private final String uri;
+    private final String requestBody;
+    private final int statusCode;
+    private final long executionTime;
+    private final String responseBody;
+
+    public HttpExchangeMessage(long threadId, String method, String uri, String requestBody,
+                               int statusCode, long executionTime, String responseBody) {
+        this.threadId = threadId;
+        this.method = method;
+        this.uri = uri;
+        this.requestBody = requestBody;
+        this.statusCode = statusCode;
+        this.executionTime = executionTime;
+        this.responseBody = responseBody;
+    }
+
+    @Override
+    public void formatTo(StringBuilder buffer) {
+        buffer.append("\n").append("Thread - ").append(threadId).append("\n")
+                .append("\tURL           : ").append(method).append(" ").append(uri).append("\n")
+                .append("\tRequest Body  : ").append(textOrDash(requestBody)).append("\n")
+                .append("\tResponse Code : ").append(statusCode).append(" ").append("\n")
+                .append("\tExec Time     : ").append(executionTime).append(" ms").append("\n")
+                .append("\tResponse Body : ").append(textOrDash(responseBody));
+    }
+
+    @Override
+    public String getFormattedMessage() {
+        StringBuilder buffer = new StringBuilder();
+        formatTo(buffer);
+        return buffer.toString();
+    }
+
+    @Override
+    public String getFormat() {
+        return null;
+    }
+
+    @Override
+    public Object[] getParameters() {
+        return null;
+    }
+
+    @Override
+    public Throwable getThrowable() {
+        return null;
+    }
+
+    private static String textOrDash(String text) {
+        return StringUtils.isBlank(text) ? "-" : text;
+    }
+}
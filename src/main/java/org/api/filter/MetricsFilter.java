@@ -0,0 +1,81 @@
+package org.api.filter;
+
+import io.restassured.filter.Filter;
+import io.restassured.filter.FilterContext;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+import org.apache.commons.lang3.StringUtils;
+import org.metrics.EndpointMetrics;
+import org.metrics.MetricsRegistry;
+
+/**
+ * Feeds {@link MetricsRegistry} with status, byte counts and duration of every HTTP exchange,
+ * keyed by route template. Added last, so the logging and reporting filters are not part of the measured time.
+ */
+public class MetricsFilter implements Filter {
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec,
+                           FilterableResponseSpecification responseSpec,
+                           FilterContext ctx) {
+        EndpointMetrics metrics = MetricsRegistry.endpoint(requestSpec.getMethod(), route(requestSpec));
+        long requestBytes = bodyBytes(requestSpec.getBody());
+        long start = System.nanoTime();
+        Response response;
+        try {
+            response = ctx.next(requestSpec, responseSpec);
+        } catch (Throwable e) {
+            // connection resets, refusals and timeouts arrive as undeclared checked exceptions
+            metrics.recordFailure(requestBytes, start, System.nanoTime());
+            throw e;
+        }
+        metrics.record(response.getStatusCode(), requestBytes, responseBytes(response), start, System.nanoTime());
+        return response;
+    }
+
+    static String route(FilterableRequestSpecification requestSpec) {
+        return StringUtils.isEmpty(requestSpec.getUserDefinedPath())
+                ? requestSpec.getDerivedPath()
+                : requestSpec.getUserDefinedPath();
+    }
+
+    private static long responseBytes(Response response) {
+        String contentLength = response.getHeader("Content-Length");
+        if (contentLength != null) {
+            try {
+                return Long.parseLong(contentLength.trim());
+            } catch (NumberFormatException ignore) {
+            }
+        }
+        return response.asByteArray().length;
+    }
+
+    private static long bodyBytes(Object body) {
+        if (body == null) {
+            return 0;
+        }
+        if (body instanceof byte[] bytes) {
+            return bytes.length;
+        }
+        return utf8Length(body.toString());
+    }
+
+    private static long utf8Length(String text) {
+        long length = 0;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c < 0x80) {
+                length++;
+            } else if (c < 0x800) {
+                length += 2;
+            } else if (Character.isHighSurrogate(c)) {
+                length += 4;
+                i++;
+            } else {
+                length += 3;
+            }
+        }
+        return length;
+    }
+}
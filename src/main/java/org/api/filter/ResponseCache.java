@@ -0,0 +1,168 @@
+package org.api.filter;
+
+import io.restassured.builder.ResponseBuilder;
+import io.restassured.response.Response;
+import lombok.Value;
+import org.configuration.ConfigurationLoader;
+import org.configuration.model.CacheConfiguration;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Process-wide LRU cache of successful GET responses keyed by full request URI.
+ * A write to {@code /collection[/id]} drops every entry under {@code /collection} and every sub-resource
+ * ending in {@code /collection/id} (e.g. {@code /Authors/authors/books/5} for a write to {@code /Books/5}).
+ * Each write also advances a generation, so a GET that was in flight during the write is not stored.
+ */
+public class ResponseCache {
+
+    private static final CacheConfiguration CONFIGURATION = ConfigurationLoader.getAutomationConfiguration().getCache();
+
+    private static final ReentrantLock LOCK = new ReentrantLock();
+    private static final AtomicLong GENERATION = new AtomicLong();
+    private static final LongAdder HITS = new LongAdder();
+    private static final LongAdder REVALIDATED = new LongAdder();
+    private static final LongAdder MISSES = new LongAdder();
+    private static final LongAdder INVALIDATED = new LongAdder();
+    private static final LongAdder EVICTED = new LongAdder();
+
+    private static final Map<String, Entry> ENTRIES = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+            if (size() > CONFIGURATION.getMaxEntries()) {
+                EVICTED.increment();
+                return true;
+            }
+            return false;
+        }
+    };
+
+    public static boolean isEnabled() {
+        return CONFIGURATION.isEnabled();
+    }
+
+    public static CacheStats getStats() {
+        LOCK.lock();
+        try {
+            return new CacheStats(HITS.sum(), REVALIDATED.sum(), MISSES.sum(), INVALIDATED.sum(), EVICTED.sum(), ENTRIES.size());
+        } finally {
+            LOCK.unlock();
+        }
+    }
+
+    /**
+     * Drops entries of the written resource, to be called before and after every non-GET request
+     */
+    static void invalidate(String path) {
+        GENERATION.incrementAndGet();
+        String collection = path;
+        String relatedSuffix = null;
+        int lastSlash = path.lastIndexOf('/');
+        if (lastSlash > 0 && isNumeric(path.substring(lastSlash + 1))) {
+            collection = path.substring(0, lastSlash);
+            relatedSuffix = (collection.substring(collection.lastIndexOf('/')) + path.substring(lastSlash)).toLowerCase();
+        }
+        LOCK.lock();
+        try {
+            Iterator<Entry> entries = ENTRIES.values().iterator();
+            while (entries.hasNext()) {
+                String entryPath = entries.next().getPath();
+                if (entryPath.startsWith(collection)
+                        || (relatedSuffix != null && entryPath.toLowerCase().endsWith(relatedSuffix))) {
+                    entries.remove();
+                    INVALIDATED.increment();
+                }
+            }
+        } finally {
+            LOCK.unlock();
+        }
+    }
+
+    static long generation() {
+        return GENERATION.get();
+    }
+
+    static Entry get(String uri) {
+        LOCK.lock();
+        try {
+            return ENTRIES.get(uri);
+        } finally {
+            LOCK.unlock();
+        }
+    }
+
+    /**
+     * Stores the response unless a write happened since {@code generation} was read
+     */
+    static void put(String uri, String path, Response response, long generation) {
+        byte[] body = response.asByteArray();
+        if (body.length > CONFIGURATION.getMaxEntryBytes()) {
+            return;
+        }
+        Entry entry = new Entry(path, response.getHeader("ETag"), response);
+        LOCK.lock();
+        try {
+            if (GENERATION.get() == generation) {
+                ENTRIES.put(uri, entry);
+            }
+        } finally {
+            LOCK.unlock();
+        }
+    }
+
+    static void recordHit(boolean revalidated) {
+        (revalidated ? REVALIDATED : HITS).increment();
+    }
+
+    static void recordMiss() {
+        MISSES.increment();
+    }
+
+    private static boolean isNumeric(String segment) {
+        if (segment.isEmpty()) {
+            return false;
+        }
+        for (int i = 0; i < segment.length(); i++) {
+            if (!Character.isDigit(segment.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Value
+    static class Entry {
+
+        String path;
+        String etag;
+        Response response;
+
+        /**
+         * Each caller gets its own response object over the shared body bytes
+         */
+        Response copy() {
+            return new ResponseBuilder().clone(response).build();
+        }
+    }
+
+    @Value
+    public static class CacheStats {
+
+        long hits;
+        long revalidated;
+        long misses;
+        long invalidated;
+        long evicted;
+        int size;
+
+        public double getHitRatio() {
+            long lookups = hits + revalidated + misses;
+            return lookups == 0 ? 0 : (hits + revalidated) / (double) lookups;
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package org.api.filter;
+
+import io.restassured.filter.Filter;
+import io.restassured.filter.FilterContext;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+
+import java.net.URI;
+
+/**
+ * Serves GETs from {@link ResponseCache}. Entries with an ETag are revalidated with If-None-Match and reused on 304,
+ * entries without one are reused until a write invalidates them. Every other method invalidates its resource
+ * before and after it is sent.
+ */
+public class ResponseCacheFilter implements Filter {
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec,
+                           FilterableResponseSpecification responseSpec,
+                           FilterContext ctx) {
+        String uri = requestSpec.getURI();
+        String path = URI.create(uri).getRawPath();
+        if (!"GET".equals(requestSpec.getMethod())) {
+            ResponseCache.invalidate(path);
+            try {
+                return ctx.next(requestSpec, responseSpec);
+            } finally {
+                ResponseCache.invalidate(path);
+            }
+        }
+
+        long generation = ResponseCache.generation();
+        ResponseCache.Entry cached = ResponseCache.get(uri);
+        if (cached != null) {
+            if (cached.getEtag() == null) {
+                ResponseCache.recordHit(false);
+                return cached.copy();
+            }
+            requestSpec.header("If-None-Match", cached.getEtag());
+        }
+        Response response = ctx.next(requestSpec, responseSpec);
+        if (cached != null && response.getStatusCode() == 304) {
+            ResponseCache.recordHit(true);
+            return cached.copy();
+        }
+        ResponseCache.recordMiss();
+        if (response.getStatusCode() == 200) {
+            ResponseCache.put(uri, path, response, generation);
+        }
+        return response;
+    }
+}
@@ -0,0 +1,19 @@
+package org.api.filter;
+
+import io.qameta.allure.Allure;
+import io.qameta.allure.restassured.AllureRestAssured;
+import io.restassured.filter.FilterContext;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+
+public class RestAssuredAllureFilter extends AllureRestAssured {
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec, FilterableResponseSpecification responseSpec, FilterContext filterContext) {
+        String method = requestSpec.getMethod();
+        String uri = requestSpec.getURI();
+        String stepName = String.format("%s: %s", method, uri);
+        return Allure.step(stepName, () -> super.filter(requestSpec, responseSpec, filterContext));
+    }
+}
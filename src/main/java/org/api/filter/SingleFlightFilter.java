@@ -0,0 +1,129 @@
+package org.api.filter;
+
+import io.restassured.builder.ResponseBuilder;
+import io.restassured.filter.Filter;
+import io.restassured.filter.FilterContext;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+import lombok.Value;
+import org.configuration.ConfigurationLoader;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Coalesces identical in-flight GETs (same URI with query and path params, same If-None-Match): the first caller sends
+ * the request, callers arriving while it is in flight wait for it and get their own copy of the response.
+ * A caller only joins a request that started after the last write, so data written before the call is never missed.
+ */
+public class SingleFlightFilter implements Filter {
+
+    private static final boolean ENABLED = ConfigurationLoader.getAutomationConfiguration().getSingleFlight().isEnabled();
+
+    private static final long JOIN_TIMEOUT_SECONDS = 120;
+
+    private static final Map<String, Flight> IN_FLIGHT = new ConcurrentHashMap<>();
+    private static final AtomicLong WRITE_GENERATION = new AtomicLong();
+    private static final LongAdder SENT = new LongAdder();
+    private static final LongAdder COALESCED = new LongAdder();
+
+    public static boolean isEnabled() {
+        return ENABLED;
+    }
+
+    public static SingleFlightStats getStats() {
+        return new SingleFlightStats(SENT.sum(), COALESCED.sum());
+    }
+
+    private static void recordWrite() {
+        WRITE_GENERATION.incrementAndGet();
+    }
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec,
+                           FilterableResponseSpecification responseSpec,
+                           FilterContext ctx) {
+        if (!"GET".equals(requestSpec.getMethod())) {
+            recordWrite();
+            try {
+                return ctx.next(requestSpec, responseSpec);
+            } finally {
+                recordWrite();
+            }
+        }
+
+        String key = requestSpec.getURI() + " " + requestSpec.getHeaders().getValue("If-None-Match");
+        Flight flight = new Flight(WRITE_GENERATION.get());
+        Flight leader = IN_FLIGHT.putIfAbsent(key, flight);
+        if (leader != null && leader.getGeneration() == flight.getGeneration()) {
+            COALESCED.increment();
+            return join(leader);
+        }
+        if (leader != null) {
+            // the running request may predate a write, it is neither joined nor replaced
+            SENT.increment();
+            return ctx.next(requestSpec, responseSpec);
+        }
+
+        SENT.increment();
+        Throwable failure = null;
+        try {
+            Response response = ctx.next(requestSpec, responseSpec);
+            response.asByteArray();
+            flight.getResponse().complete(response);
+            return response;
+        } catch (Throwable e) {
+            // REST Assured rethrows checked I/O exceptions undeclared, followers must see them as well
+            failure = e;
+            throw e;
+        } finally {
+            IN_FLIGHT.remove(key, flight);
+            if (!flight.getResponse().isDone()) {
+                flight.getResponse().completeExceptionally(failure != null ? failure
+                        : new IllegalStateException("Coalesced request finished without a response"));
+            }
+        }
+    }
+
+    /**
+     * Waits at most {@link #JOIN_TIMEOUT_SECONDS} for the leader, its failure is rethrown unwrapped
+     */
+    private static Response join(Flight leader) {
+        try {
+            return new ResponseBuilder().clone(leader.getResponse().get(JOIN_TIMEOUT_SECONDS, TimeUnit.SECONDS)).build();
+        } catch (ExecutionException e) {
+            throw SingleFlightFilter.<RuntimeException>sneakyThrow(e.getCause());
+        } catch (TimeoutException e) {
+            throw new IllegalStateException("Coalesced request did not finish within %d s".formatted(JOIN_TIMEOUT_SECONDS), e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for a coalesced request", e);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <E extends Throwable> E sneakyThrow(Throwable throwable) throws E {
+        throw (E) throwable;
+    }
+
+    @Value
+    private static class Flight {
+
+        long generation;
+        CompletableFuture<Response> response = new CompletableFuture<>();
+    }
+
+    @Value
+    public static class SingleFlightStats {
+
+        long sent;
+        long coalesced;
+    }
+}
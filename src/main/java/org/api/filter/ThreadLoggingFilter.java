@@ -0,0 +1,83 @@
+package org.api.filter;
+
+import io.restassured.filter.Filter;
+import io.restassured.filter.FilterContext;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+import lombok.extern.log4j.Log4j2;
+import org.apache.http.entity.ContentType;
+import org.configuration.ConfigurationLoader;
+
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+@Log4j2
+public class ThreadLoggingFilter implements Filter {
+
+    private final int maxBodyLength;
+
+    public ThreadLoggingFilter() {
+        this(ConfigurationLoader.getSnapshot().getMaxBodyLength());
+    }
+
+    public ThreadLoggingFilter(int maxBodyLength) {
+        this.maxBodyLength = maxBodyLength;
+    }
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec,
+                           FilterableResponseSpecification responseSpec,
+                           FilterContext ctx) {
+        if (!log.isInfoEnabled()) {
+            return ctx.next(requestSpec, responseSpec);
+        }
+        boolean isMultipart = requestSpec.getContentType() != null &&
+                requestSpec.getContentType().toLowerCase().contains("multipart");
+        String requestBody = isMultipart ? "[multipart content omitted]" : truncate(requestSpec.getBody(), maxBodyLength);
+
+        Response response = ctx.next(requestSpec, responseSpec);
+
+        boolean isBinary = response.getContentType() != null &&
+                (response.getContentType().toLowerCase().contains("multipart") ||
+                        response.getContentType().equalsIgnoreCase("application/vnd.openxmlformats-officedocument.spreadsheetml.sheet"));
+
+        String responseBody = isBinary ? "[binary content omitted]" : responseBody(response, maxBodyLength);
+
+        log.info(new HttpExchangeMessage(Thread.currentThread().threadId(), requestSpec.getMethod(), requestSpec.getURI(),
+                requestBody, response.getStatusCode(), response.getTime(), responseBody));
+        return response;
+    }
+
+    /**
+     * Decodes the buffered body bytes once, at most maxLength of them, in the charset of the response
+     */
+    static String responseBody(Response response, int maxLength) {
+        byte[] body = response.asByteArray();
+        Charset charset = charset(response.getContentType());
+        if (maxLength <= 0 || body.length <= maxLength) {
+            return new String(body, charset);
+        }
+        return new String(body, 0, maxLength, charset) + truncationMarker(body.length, "bytes");
+    }
+
+    private static Charset charset(String contentType) {
+        try {
+            Charset charset = contentType == null || contentType.isEmpty() ? null : ContentType.parse(contentType).getCharset();
+            return charset != null ? charset : StandardCharsets.UTF_8;
+        } catch (RuntimeException e) {
+            return StandardCharsets.UTF_8;
+        }
+    }
+
+    static String truncate(String body, int maxLength) {
+        if (body == null || maxLength <= 0 || body.length() <= maxLength) {
+            return body;
+        }
+        return body.substring(0, maxLength) + truncationMarker(body.length(), "chars");
+    }
+
+    private static String truncationMarker(int length, String unit) {
+        return "... [truncated, " + length + " " + unit + " total]";
+    }
+}
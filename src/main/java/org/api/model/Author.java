@@ -2,6 +2,7 @@ package org.api.model;
 
 import lombok.Data;
 import lombok.experimental.Accessors;
+import org.utils.TestDataGenerator;
 
 @Accessors(chain = true)
 @Data
@@ -13,12 +14,10 @@ public class Author {
     private String lastName;
 
     public static Author createValidAuthorDTO() {
-        return new Author()
-                .setFirstName(String.format("book-%s-%s", Thread.currentThread().threadId(), System.currentTimeMillis()))
-                .setLastName(String.format("book-%s-%s", Thread.currentThread().threadId(), System.currentTimeMillis()));
+        return TestDataGenerator.author(null);
     }
 
     public static Author createValidAuthorDTOForBook(Long bookId) {
-        return createValidAuthorDTO().setIdBook(bookId);
+        return TestDataGenerator.author(bookId);
     }
 }
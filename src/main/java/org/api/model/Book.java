@@ -2,9 +2,7 @@ package org.api.model;
 
 import lombok.Data;
 import lombok.experimental.Accessors;
-import org.utils.RandomUtils;
-
-import java.util.stream.IntStream;
+import org.utils.TestDataGenerator;
 
 @Accessors(chain = true)
 @Data
@@ -18,10 +16,7 @@ public class Book {
     private String publishDate;
 
     public static Book createValidBookDTO() {
-        return new Book()
-                .setTitle(String.format("book-%s-%s", Thread.currentThread().threadId(), System.currentTimeMillis()))
-                .setPageCount(RandomUtils.getRandomElement(IntStream.range(1, 1000).boxed().toList()))
-                .setDescription("Random description");
+        return TestDataGenerator.book();
     }
 
 }
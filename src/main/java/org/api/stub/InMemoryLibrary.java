@@ -0,0 +1,238 @@
+package org.api.stub;
+
+import org.api.model.Author;
+import org.api.model.Book;
+import org.api.model.ErrorModel;
+
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Books and Authors storage behind {@link LocalApiServer}. Validation rules follow the contract
+ * asserted by the regression suite, including the lower text limit on create than on update.
+ */
+public class InMemoryLibrary {
+
+    static final int MAX_CREATE_TEXT_LENGTH = 1000;
+    static final int MAX_UPDATE_TEXT_LENGTH = 100000;
+
+    private static final String NOT_FOUND_TYPE = "https://tools.ietf.org/html/rfc7231#section-6.5.4";
+    private static final String BAD_REQUEST_TYPE = "https://tools.ietf.org/html/rfc7231#section-6.5.1";
+
+    private final Map<Long, Book> books = new ConcurrentSkipListMap<>();
+    private final Map<Long, Author> authors = new ConcurrentSkipListMap<>();
+    private final Map<Long, Map<Long, Author>> authorsByBook = new ConcurrentHashMap<>();
+    private final AtomicLong bookSequence = new AtomicLong();
+    private final AtomicLong authorSequence = new AtomicLong();
+
+    public InMemoryLibrary seed(int count) {
+        for (int i = 1; i <= count; i++) {
+            Book book = (Book) createBook(new Book()
+                    .setTitle("Book " + i)
+                    .setDescription("Description of book " + i)
+                    .setPageCount(i * 10)
+                    .setExcerpt("Excerpt of book " + i)
+                    .setPublishDate(Instant.now().toString())).body();
+            createAuthor(new Author()
+                    .setIdBook(book.getId())
+                    .setFirstName("First Name " + i)
+                    .setLastName("Last Name " + i));
+        }
+        return this;
+    }
+
+    public Result getBooks() {
+        return Result.ok(new ArrayList<>(books.values()));
+    }
+
+    public Result getBook(long id) {
+        Book book = books.get(id);
+        return book == null ? Result.notFound() : Result.ok(book);
+    }
+
+    public Result createBook(Book book) {
+        String error = validate(book, MAX_CREATE_TEXT_LENGTH);
+        if (error != null) {
+            return Result.badRequest(error);
+        }
+        Book created = copy(book)
+                .setId(bookSequence.incrementAndGet())
+                .setPublishDate(book.getPublishDate() == null ? Instant.now().toString() : book.getPublishDate());
+        books.put(created.getId(), created);
+        return Result.ok(created);
+    }
+
+    public Result updateBook(long id, Book book) {
+        String error = validate(book, MAX_UPDATE_TEXT_LENGTH);
+        if (error != null) {
+            return Result.badRequest(error);
+        }
+        Book updated = books.computeIfPresent(id, (bookId, current) -> copy(book)
+                .setId(bookId)
+                .setPublishDate(book.getPublishDate() == null ? current.getPublishDate() : book.getPublishDate()));
+        return updated == null ? Result.notFound() : Result.ok(updated);
+    }
+
+    public Result deleteBook(long id) {
+        return books.remove(id) == null ? Result.notFound() : Result.ok(null);
+    }
+
+    public Result getAuthors() {
+        return Result.ok(new ArrayList<>(authors.values()));
+    }
+
+    public Result getAuthor(long id) {
+        Author author = authors.get(id);
+        return author == null ? Result.notFound() : Result.ok(author);
+    }
+
+    /**
+     * First author of an existing book, authors of deleted books are not reachable by this route
+     */
+    public Result getAuthorByBook(long idBook) {
+        Map<Long, Author> bookAuthors = authorsByBook.get(idBook);
+        if (!books.containsKey(idBook) || bookAuthors == null) {
+            return Result.notFound();
+        }
+        return bookAuthors.values().stream()
+                .min(Comparator.comparing(Author::getId))
+                .map(Result::ok)
+                .orElseGet(Result::notFound);
+    }
+
+    public Result createAuthor(Author author) {
+        String error = validate(author, MAX_CREATE_TEXT_LENGTH);
+        if (error != null) {
+            return Result.badRequest(error);
+        }
+        Author created = copy(author).setId(authorSequence.incrementAndGet());
+        authors.put(created.getId(), created);
+        index(created);
+        return Result.ok(created);
+    }
+
+    public Result updateAuthor(long id, Author author) {
+        String error = validate(author, MAX_UPDATE_TEXT_LENGTH);
+        if (error != null) {
+            return Result.badRequest(error);
+        }
+        Author[] previous = new Author[1];
+        Author updated = authors.computeIfPresent(id, (authorId, current) -> {
+            previous[0] = current;
+            return copy(author).setId(authorId);
+        });
+        if (updated == null) {
+            return Result.notFound();
+        }
+        unindex(previous[0]);
+        index(updated);
+        return Result.ok(updated);
+    }
+
+    public Result deleteAuthor(long id) {
+        Author removed = authors.remove(id);
+        if (removed == null) {
+            return Result.notFound();
+        }
+        unindex(removed);
+        return Result.ok(null);
+    }
+
+    private void index(Author author) {
+        authorsByBook.computeIfAbsent(author.getIdBook(), idBook -> new ConcurrentSkipListMap<>())
+                .put(author.getId(), author);
+    }
+
+    private void unindex(Author author) {
+        authorsByBook.computeIfPresent(author.getIdBook(), (idBook, bookAuthors) -> {
+            bookAuthors.remove(author.getId());
+            return bookAuthors.isEmpty() ? null : bookAuthors;
+        });
+    }
+
+    private String validate(Book book, int maxTextLength) {
+        if (book.getPageCount() == null || book.getPageCount() <= 0) {
+            return "The PageCount field must be a positive number.";
+        }
+        if (tooLong(book.getTitle(), maxTextLength) || tooLong(book.getDescription(), maxTextLength)
+                || tooLong(book.getExcerpt(), maxTextLength)) {
+            return "Text fields must not exceed %s characters.".formatted(maxTextLength);
+        }
+        if (book.getPublishDate() != null) {
+            try {
+                OffsetDateTime.parse(book.getPublishDate());
+            } catch (DateTimeParseException e) {
+                return "The PublishDate field must be an ISO-8601 date-time.";
+            }
+        }
+        return null;
+    }
+
+    private String validate(Author author, int maxTextLength) {
+        if (author.getFirstName() == null || author.getLastName() == null) {
+            return "The FirstName and LastName fields are required.";
+        }
+        if (tooLong(author.getFirstName(), maxTextLength) || tooLong(author.getLastName(), maxTextLength)) {
+            return "Text fields must not exceed %s characters.".formatted(maxTextLength);
+        }
+        if (author.getIdBook() == null || author.getIdBook() <= 0 || !books.containsKey(author.getIdBook())) {
+            return "The IdBook field must reference an existing book.";
+        }
+        return null;
+    }
+
+    private static boolean tooLong(String value, int maxLength) {
+        return value != null && value.length() > maxLength;
+    }
+
+    private static Book copy(Book book) {
+        return new Book()
+                .setTitle(book.getTitle())
+                .setDescription(book.getDescription())
+                .setPageCount(book.getPageCount())
+                .setExcerpt(book.getExcerpt())
+                .setPublishDate(book.getPublishDate());
+    }
+
+    private static Author copy(Author author) {
+        return new Author()
+                .setIdBook(author.getIdBook())
+                .setFirstName(author.getFirstName())
+                .setLastName(author.getLastName());
+    }
+
+    /**
+     * Status and body of a stub response, body is null for an empty response
+     */
+    public record Result(int status, Object body) {
+
+        static Result ok(Object body) {
+            return new Result(200, body);
+        }
+
+        static Result notFound() {
+            return error(404, "Not Found", NOT_FOUND_TYPE);
+        }
+
+        static Result badRequest(String detail) {
+            return error(400, detail, BAD_REQUEST_TYPE);
+        }
+
+        static Result error(int status, String title, String type) {
+            return new Result(status, new ErrorModel()
+                    .setType(type)
+                    .setTitle(title)
+                    .setStatus(status)
+                    .setTraceId("00-" + UUID.randomUUID().toString().replace("-", "") + "-00"));
+        }
+    }
+}
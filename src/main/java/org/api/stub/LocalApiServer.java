@@ -0,0 +1,251 @@
+package org.api.stub;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import lombok.extern.log4j.Log4j2;
+import org.api.model.Author;
+import org.api.model.Book;
+import org.configuration.ConfigurationLoader;
+import org.configuration.model.StubConfiguration;
+import org.utils.ObjectMapperRegistry;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.zip.CRC32C;
+
+/**
+ * Embedded, in-memory implementation of the Books and Authors API on the JDK {@link HttpServer}.
+ * Selected with {@code application.baseApi=local}; latency and error injection come from the
+ * {@code stub} configuration section.
+ */
+@Log4j2
+public class LocalApiServer implements AutoCloseable {
+
+    public static final String LOCAL = "local";
+
+    private static final String BOOKS_PATH = "/api/v1/Books";
+    private static final String AUTHORS_PATH = "/api/v1/Authors";
+    private static final String AUTHORS_BY_BOOK_PATH = AUTHORS_PATH + "/authors/books/";
+
+    private static final String NODELAY_PROPERTY = "sun.net.httpserver.nodelay";
+
+    /*
+     * Without TCP_NODELAY small responses wait for delayed ACKs (~40 ms per request on loopback).
+     * The JDK server reads the JVM-wide property once, before the first server is created; an explicit value is kept.
+     */
+    static {
+        if (System.getProperty(NODELAY_PROPERTY) == null) {
+            System.setProperty(NODELAY_PROPERTY, "true");
+        }
+    }
+
+    private static volatile LocalApiServer instance;
+
+    private final StubConfiguration configuration;
+    private final InMemoryLibrary library;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final HttpServer server;
+
+    public LocalApiServer(StubConfiguration configuration) {
+        this.configuration = configuration;
+        this.library = new InMemoryLibrary().seed(configuration.getSeedBooks());
+        try {
+            server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), configuration.getPort()), 0);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to start local API server", e);
+        }
+        server.createContext(BOOKS_PATH, exchange -> handle(exchange, this::books));
+        server.createContext(AUTHORS_PATH, exchange -> handle(exchange, this::authors));
+        server.setExecutor(executor);
+        server.start();
+        log.info("Local API server started on {}", getBaseUri());
+    }
+
+    /**
+     * Replaces {@link #LOCAL} with the address of the shared server, starting it on first use
+     */
+    public static String resolveBaseUri(String baseApi) {
+        return LOCAL.equalsIgnoreCase(baseApi) ? getInstance().getBaseUri() : baseApi;
+    }
+
+    public static LocalApiServer getInstance() {
+        if (instance == null) {
+            synchronized (LocalApiServer.class) {
+                if (instance == null) {
+                    instance = new LocalApiServer(ConfigurationLoader.getAutomationConfiguration().getStub());
+                }
+            }
+        }
+        return instance;
+    }
+
+    public static synchronized void stopInstance() {
+        if (instance != null) {
+            instance.close();
+            instance = null;
+        }
+    }
+
+    public String getBaseUri() {
+        return "http://%s:%s".formatted(server.getAddress().getHostString(), server.getAddress().getPort());
+    }
+
+    public InMemoryLibrary getLibrary() {
+        return library;
+    }
+
+    private void handle(HttpExchange exchange, Route route) throws IOException {
+        try (exchange) {
+            if (injectFault(exchange)) {
+                return;
+            }
+            InMemoryLibrary.Result result;
+            try {
+                result = route.apply(exchange.getRequestURI().getPath(), exchange.getRequestMethod(), exchange);
+            } catch (BadRequestException e) {
+                result = InMemoryLibrary.Result.badRequest(e.getMessage());
+            }
+            if (result == null) {
+                exchange.sendResponseHeaders(405, -1);
+            } else {
+                respond(exchange, result);
+            }
+        }
+    }
+
+    private InMemoryLibrary.Result books(String path, String method, HttpExchange exchange) throws IOException {
+        if (isCollection(path, BOOKS_PATH)) {
+            return switch (method) {
+                case "GET" -> library.getBooks();
+                case "POST" -> library.createBook(read(exchange, Book.class));
+                default -> null;
+            };
+        }
+        long id = parseId(path.substring(BOOKS_PATH.length() + 1));
+        return switch (method) {
+            case "GET" -> library.getBook(id);
+            case "PUT" -> library.updateBook(id, read(exchange, Book.class));
+            case "DELETE" -> library.deleteBook(id);
+            default -> null;
+        };
+    }
+
+    private InMemoryLibrary.Result authors(String path, String method, HttpExchange exchange) throws IOException {
+        if (isCollection(path, AUTHORS_PATH)) {
+            return switch (method) {
+                case "GET" -> library.getAuthors();
+                case "POST" -> library.createAuthor(read(exchange, Author.class));
+                default -> null;
+            };
+        }
+        if (path.startsWith(AUTHORS_BY_BOOK_PATH)) {
+            return method.equals("GET") ? library.getAuthorByBook(parseId(path.substring(AUTHORS_BY_BOOK_PATH.length()))) : null;
+        }
+        long id = parseId(path.substring(AUTHORS_PATH.length() + 1));
+        return switch (method) {
+            case "GET" -> library.getAuthor(id);
+            case "PUT" -> library.updateAuthor(id, read(exchange, Author.class));
+            case "DELETE" -> library.deleteAuthor(id);
+            default -> null;
+        };
+    }
+
+    /**
+     * Applies the configured latency and answers with the configured error status for the configured share of requests
+     */
+    private boolean injectFault(HttpExchange exchange) throws IOException {
+        if (configuration.getLatencyMillis() > 0) {
+            try {
+                Thread.sleep(configuration.getLatencyMillis());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        if (configuration.getErrorRatePercent() > 0
+                && ThreadLocalRandom.current().nextInt(100) < configuration.getErrorRatePercent()) {
+            int status = configuration.getErrorStatusCode();
+            respond(exchange, InMemoryLibrary.Result.error(status, "Injected failure", "about:blank"));
+            return true;
+        }
+        return false;
+    }
+
+    private static boolean isCollection(String path, String collectionPath) {
+        return path.equals(collectionPath) || path.equals(collectionPath + "/");
+    }
+
+    private static long parseId(String value) {
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            throw new BadRequestException("The value '%s' is not valid.".formatted(value));
+        }
+    }
+
+    private static <T> T read(HttpExchange exchange, Class<T> type) throws IOException {
+        try (InputStream body = exchange.getRequestBody()) {
+            T value = ObjectMapperRegistry.readerFor(type).readValue(body);
+            if (value == null) {
+                throw new BadRequestException("A non-empty request body is required.");
+            }
+            return value;
+        } catch (JsonProcessingException e) {
+            throw new BadRequestException("The request body is not valid JSON: " + e.getOriginalMessage());
+        }
+    }
+
+    private static void respond(HttpExchange exchange, InMemoryLibrary.Result result) throws IOException {
+        if (result.body() == null) {
+            exchange.sendResponseHeaders(result.status(), -1);
+            return;
+        }
+        byte[] body = ObjectMapperRegistry.getApiMapper().writeValueAsBytes(result.body());
+        if (result.status() == 200 && "GET".equals(exchange.getRequestMethod())) {
+            String etag = etag(body);
+            exchange.getResponseHeaders().add("ETag", etag);
+            if (etag.equals(exchange.getRequestHeaders().getFirst("If-None-Match"))) {
+                exchange.sendResponseHeaders(304, -1);
+                return;
+            }
+        }
+        exchange.getResponseHeaders().add("Content-Type", "application/json; charset=utf-8");
+        exchange.sendResponseHeaders(result.status(), body.length);
+        exchange.getResponseBody().write(body);
+    }
+
+    /**
+     * Strong validator derived from the representation, so unchanged resources revalidate with 304
+     */
+    private static String etag(byte[] body) {
+        CRC32C checksum = new CRC32C();
+        checksum.update(body);
+        return "\"" + Integer.toHexString(body.length) + "-" + Long.toHexString(checksum.getValue()) + "\"";
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+        log.info("Local API server stopped");
+    }
+
+    @FunctionalInterface
+    private interface Route {
+
+        InMemoryLibrary.Result apply(String path, String method, HttpExchange exchange) throws IOException;
+    }
+
+    private static class BadRequestException extends RuntimeException {
+
+        BadRequestException(String message) {
+            super(message);
+        }
+    }
+}
@@ -1,91 +1,123 @@
 package org.configuration;
 
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.MapperFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.introspect.BeanPropertyDefinition;
 import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
-import lombok.Getter;
 import lombok.extern.log4j.Log4j2;
 import org.configuration.model.AutomationConfig;
 
 import java.io.IOException;
 import java.io.InputStream;
-import java.lang.reflect.Field;
-import java.util.stream.Stream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
 
+/**
+ * Loads automation-application.yml on first use. The configuration keys (e.g. {@code execution.retry}) are
+ * derived from the model once; each is looked up once in the system properties and a value found is merged
+ * into the YAML tree before the configuration beans are bound in a single pass.
+ */
 @Log4j2
 public class ConfigurationLoader {
 
-    @Getter
-    private static final AutomationConfig automationConfiguration;
+    private static final String CONFIGURATION_FILE = "configuration/automation-application.yml";
 
-    static {
-        automationConfiguration = loadConfig();
+    private static final ObjectMapper YAML_MAPPER = JsonMapper.builder(new YAMLFactory())
+            .enable(MapperFeature.ACCEPT_CASE_INSENSITIVE_ENUMS)
+            .build();
+
+    private static final List<String> CONFIGURATION_KEYS =
+            List.copyOf(configurationKeys(YAML_MAPPER.constructType(AutomationConfig.class), ""));
+
+    private static class Holder {
+
+        private static final AutomationConfig CONFIGURATION = loadConfig();
+        private static volatile ConfigurationSnapshot snapshot = ConfigurationSnapshot.of(CONFIGURATION);
+    }
+
+    public static AutomationConfig getAutomationConfiguration() {
+        return Holder.CONFIGURATION;
+    }
+
+    public static ConfigurationSnapshot getSnapshot() {
+        return Holder.snapshot;
+    }
+
+    /**
+     * Points the API clients at another base API, e.g. a stub server started by the caller.
+     * The snapshot is rebuilt, changing the configuration bean directly is not seen by the clients.
+     */
+    public static synchronized void setBaseApi(String baseApi) {
+        Holder.CONFIGURATION.getApplication().setBaseApi(baseApi);
+        Holder.snapshot = ConfigurationSnapshot.of(Holder.CONFIGURATION);
     }
 
     private static AutomationConfig loadConfig() {
         log.info("Loading configuration started");
-        ObjectMapper objectMapperYaml = JsonMapper.builder(
-                        new YAMLFactory())
-                .enable(MapperFeature.ACCEPT_CASE_INSENSITIVE_ENUMS)
-                .build();
-        String configurationFileClassPath = "configuration/automation-application.yml";
+        long start = System.nanoTime();
+        AutomationConfig automationConfiguration = load(System.getProperties());
+        log.info("Loading configuration finished in {} ms", (System.nanoTime() - start) / 1_000_000);
+        return automationConfiguration;
+    }
+
+    static AutomationConfig load(Properties overrides) {
         try (InputStream configurationFile = Thread.currentThread()
                 .getContextClassLoader()
-                .getResourceAsStream(configurationFileClassPath)) {
+                .getResourceAsStream(CONFIGURATION_FILE)) {
             if (configurationFile == null) {
-                throw new RuntimeException("Configuration file not found: %s".formatted(configurationFileClassPath));
+                throw new RuntimeException("Configuration file not found: %s".formatted(CONFIGURATION_FILE));
             }
-            AutomationConfig automationConfiguration = objectMapperYaml.readValue(configurationFile, AutomationConfig.class);
-            overrideWithSystemProperties(automationConfiguration, "");
-            log.info("Loading configuration finished");
-            return automationConfiguration;
+            JsonNode tree = YAML_MAPPER.readTree(configurationFile);
+            ObjectNode root = tree instanceof ObjectNode objectNode ? objectNode : YAML_MAPPER.createObjectNode();
+            applyOverrides(root, overrides);
+            return YAML_MAPPER.treeToValue(root, AutomationConfig.class);
         } catch (IOException e) {
             log.error("Unable to load configuration", e);
             throw new RuntimeException("Unable to load configuration", e);
         }
     }
 
-    public static void overrideWithSystemProperties(Object obj, String prefix) {
-        log.debug("Updating configuration according to system properties");
-        if (obj == null) return;
-
-        for (Field field : obj.getClass().getDeclaredFields()) {
-            field.setAccessible(true);
-            String key = prefix + field.getName();
-            String value = System.getProperty(key);
-
-            try {
-                Class<?> type = field.getType();
-                if (value != null) {
-                    if (type == String.class) {
-                        field.set(obj, value);
-                    } else if (type == int.class || type == Integer.class) {
-                        field.set(obj, Integer.parseInt(value));
-                    } else if (type == boolean.class || type == Boolean.class) {
-                        field.set(obj, Boolean.parseBoolean(value));
-                    } else if (type.isEnum()) {
-                        Object enumValue = Stream.of(type.getEnumConstants())
-                                .filter(e -> e.toString().equalsIgnoreCase(value))
-                                .findFirst()
-                                .orElseThrow(() -> new IllegalArgumentException("No enum constant for: " + value));
-                        field.set(obj, enumValue);
-                    }
-                } else if (!type.isPrimitive() && !type.isEnum() && !type.isArray()
-                        && !type.getName().startsWith("java.")) {
-                    Object nestedObject = field.get(obj);
-                    if (nestedObject == null) {
-                        nestedObject = type.getDeclaredConstructor().newInstance();
-                        field.set(obj, nestedObject);
-                    }
-                    overrideWithSystemProperties(nestedObject, key + ".");
-                }
-
-            } catch (Exception e) {
-                log.error("Unexpected error while overriding property userId={}, error={}", key, e.getMessage());
-                throw new RuntimeException("Failed to override property: " + key, e);
+    /**
+     * Looks up each configuration path once and copies the values found into the tree
+     */
+    static void applyOverrides(ObjectNode root, Properties overrides) {
+        for (String key : CONFIGURATION_KEYS) {
+            String value = overrides.getProperty(key);
+            if (value == null) {
+                continue;
+            }
+            String[] path = key.split("\\.");
+            ObjectNode node = root;
+            for (int i = 0; i < path.length - 1; i++) {
+                node = node.get(path[i]) instanceof ObjectNode child ? child : node.putObject(path[i]);
             }
+            node.put(path[path.length - 1], value);
         }
     }
 
+    /**
+     * Keys of all settable leaf values, e.g. {@code execution.retry}
+     */
+    private static List<String> configurationKeys(JavaType type, String prefix) {
+        List<String> keys = new ArrayList<>();
+        for (BeanPropertyDefinition property : YAML_MAPPER.getDeserializationConfig().introspect(type).findProperties()) {
+            if (!property.hasSetter()) {
+                continue;
+            }
+            String key = prefix + property.getName();
+            JavaType propertyType = property.getPrimaryType();
+            Class<?> rawType = propertyType.getRawClass();
+            if (rawType.isPrimitive() || rawType.isEnum() || rawType.getName().startsWith("java.")) {
+                keys.add(key);
+            } else {
+                keys.addAll(configurationKeys(propertyType, key + "."));
+            }
+        }
+        return keys;
+    }
 }
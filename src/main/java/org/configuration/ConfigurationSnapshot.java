@@ -0,0 +1,28 @@
+package org.configuration;
+
+import lombok.Value;
+import org.configuration.model.AutomationConfig;
+import org.configuration.model.ThreadMode;
+
+/**
+ * Immutable copy of the values read on hot paths (every request, every test result), taken once after
+ * the configuration is loaded so readers do not walk the mutable configuration beans.
+ */
+@Value
+public class ConfigurationSnapshot {
+
+    String baseApi;
+    int retry;
+    ThreadMode threadMode;
+    int parallelism;
+    int maxBodyLength;
+
+    static ConfigurationSnapshot of(AutomationConfig configuration) {
+        return new ConfigurationSnapshot(
+                configuration.getApplication().getBaseApi(),
+                configuration.getExecution().getRetry(),
+                configuration.getExecution().getThreadMode(),
+                configuration.getExecution().getParallelism(),
+                configuration.getLogging().getMaxBodyLength());
+    }
+}
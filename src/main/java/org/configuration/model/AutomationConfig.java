@@ -7,5 +7,15 @@ public class AutomationConfig {
 
     private ApplicationConfiguration application;
     private ExecutionConfiguration execution;
+    private HttpClientConfiguration http;
+    private ValidationConfiguration validation;
+    private StubConfiguration stub;
+    private LoggingConfiguration logging;
+    private CleanupConfiguration cleanup;
+    private FixtureConfiguration fixture;
+    private TestDataConfiguration testData;
+    private RateLimitConfiguration rateLimit;
+    private CacheConfiguration cache;
+    private SingleFlightConfiguration singleFlight;
 
 }
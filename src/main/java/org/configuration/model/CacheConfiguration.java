@@ -0,0 +1,17 @@
+package org.configuration.model;
+
+import lombok.Data;
+
+@Data
+public class CacheConfiguration {
+
+    /**
+     * GET responses are served from the client-side cache until a write to the same resource
+     */
+    private boolean enabled;
+    private int maxEntries;
+    /**
+     * Larger responses are not cached
+     */
+    private int maxEntryBytes;
+}
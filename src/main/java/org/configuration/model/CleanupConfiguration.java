@@ -0,0 +1,16 @@
+package org.configuration.model;
+
+import lombok.Data;
+
+@Data
+public class CleanupConfiguration {
+
+    /**
+     * Maximum number of concurrent DELETE requests across all test threads
+     */
+    private int parallelism;
+    /**
+     * Test data is queued and removed once at the end of the suite instead of after every method
+     */
+    private boolean deferred;
+}
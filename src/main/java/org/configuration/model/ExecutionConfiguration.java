@@ -6,4 +6,29 @@ import lombok.Data;
 public class ExecutionConfiguration {
 
     private int retry;
+    private ThreadMode threadMode;
+    /**
+     * Number of concurrently running test methods in {@link ThreadMode#VIRTUAL} mode, suite thread-count if not positive
+     */
+    private int parallelism;
+    /**
+     * Backoff before retry n is a random delay up to min(retryMaxBackoffMillis, retryBackoffMillis * 2^(n-1))
+     */
+    private int retryBackoffMillis;
+    private int retryMaxBackoffMillis;
+    /**
+     * Retries allowed across the whole suite (token bucket capacity), unlimited if not positive
+     */
+    private int retryBudget;
+    private int retryBudgetRefillPerMinute;
+    /**
+     * Retries stop while this percentage of the last circuitBreakerWindow outcomes failed, disabled if not positive
+     */
+    private int circuitBreakerFailureRatePercent;
+    private int circuitBreakerWindow;
+    private int circuitBreakerOpenSeconds;
+    /**
+     * Per-method durations used to run slow tests first, not recorded if empty
+     */
+    private String durationHistoryFile;
 }
@@ -0,0 +1,13 @@
+package org.configuration.model;
+
+import lombok.Data;
+
+@Data
+public class FixtureConfiguration {
+
+    /**
+     * Book/author pairs created before the first test, 0 disables the warm-up (fixtures are then created on first lease)
+     */
+    private int poolSize;
+    private int warmUpParallelism;
+}
@@ -0,0 +1,18 @@
+package org.configuration.model;
+
+import lombok.Data;
+
+@Data
+public class HttpClientConfiguration {
+
+    private int maxConnectionsPerRoute;
+    private int maxConnectionsTotal;
+    private int keepAliveSeconds;
+    private int idleEvictionSeconds;
+    private int connectionTtlSeconds;
+    /**
+     * Timeouts of a connection attempt and of waiting for response data, 0 waits forever
+     */
+    private int connectTimeoutMillis;
+    private int socketTimeoutMillis;
+}
@@ -0,0 +1,12 @@
+package org.configuration.model;
+
+import lombok.Data;
+
+@Data
+public class LoggingConfiguration {
+
+    /**
+     * Request and response bodies are cut to this many bytes in the request log, 0 logs them in full
+     */
+    private int maxBodyLength;
+}
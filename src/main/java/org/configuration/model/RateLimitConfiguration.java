@@ -0,0 +1,33 @@
+package org.configuration.model;
+
+import lombok.Data;
+
+@Data
+public class RateLimitConfiguration {
+
+    private boolean enabled;
+    /**
+     * Concurrent requests per route, adjusted between min and max from latency and error feedback
+     */
+    private int initialConcurrency;
+    private int minConcurrency;
+    private int maxConcurrency;
+    /**
+     * Factor applied to the concurrency limit on overload (429, 5xx, I/O failure or queueing latency)
+     */
+    private double backoffRatio;
+    /**
+     * Latency counts as queueing once the smoothed round trip exceeds both minRtt * latencyTolerance and
+     * minRtt + latencyMarginMillis
+     */
+    private double latencyTolerance;
+    private int latencyMarginMillis;
+    /**
+     * Requests per second per route, unlimited if not positive
+     */
+    private int maxRatePerSecond;
+    /**
+     * Longest wait for a permit before the request fails
+     */
+    private int acquireTimeoutMillis;
+}
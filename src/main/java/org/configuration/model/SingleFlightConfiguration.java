@@ -0,0 +1,12 @@
+package org.configuration.model;
+
+import lombok.Data;
+
+@Data
+public class SingleFlightConfiguration {
+
+    /**
+     * Identical concurrent GETs share one request and response
+     */
+    private boolean enabled;
+}
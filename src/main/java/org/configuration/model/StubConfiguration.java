@@ -0,0 +1,16 @@
+package org.configuration.model;
+
+import lombok.Data;
+
+@Data
+public class StubConfiguration {
+
+    /**
+     * Port of the local stub server, random free port if 0
+     */
+    private int port;
+    private int latencyMillis;
+    private int errorRatePercent;
+    private int errorStatusCode;
+    private int seedBooks;
+}
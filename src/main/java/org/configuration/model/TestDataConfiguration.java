@@ -0,0 +1,12 @@
+package org.configuration.model;
+
+import lombok.Data;
+
+@Data
+public class TestDataConfiguration {
+
+    /**
+     * Seed of the generated test data, a random seed is picked (and logged) if 0
+     */
+    private long seed;
+}
@@ -0,0 +1,7 @@
+package org.configuration.model;
+
+public enum ThreadMode {
+
+    PLATFORM,
+    VIRTUAL
+}
@@ -0,0 +1,13 @@
+package org.configuration.model;
+
+import lombok.Data;
+
+@Data
+public class ValidationConfiguration {
+
+    private String schemaDirectory;
+    /**
+     * Compiles every schema under schemaDirectory before the suite, enable once contract schemas are added there
+     */
+    private boolean warmUpSchemas;
+}
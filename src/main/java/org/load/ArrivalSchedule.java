@@ -0,0 +1,57 @@
+package org.load;
+
+/**
+ * Intended start offsets of every request of a {@link LoadProfile}, obtained by inverting the
+ * cumulative arrival count of the ramp-up / steady / ramp-down rate curve.
+ */
+class ArrivalSchedule {
+
+    private static final double NANOS_PER_SECOND = 1_000_000_000d;
+
+    private final double rate;
+    private final double rampUp;
+    private final double steadyState;
+    private final double rampDown;
+    private final double rampUpArrivals;
+    private final double steadyArrivals;
+    private final long requestCount;
+
+    ArrivalSchedule(LoadProfile profile) {
+        if (profile.getTargetRps() <= 0) {
+            throw new IllegalArgumentException("Target RPS must be positive: " + profile.getTargetRps());
+        }
+        rate = profile.getTargetRps();
+        rampUp = seconds(profile.getRampUp().toNanos());
+        steadyState = seconds(profile.getSteadyState().toNanos());
+        rampDown = seconds(profile.getRampDown().toNanos());
+        rampUpArrivals = rate * rampUp / 2;
+        steadyArrivals = rate * steadyState;
+        requestCount = (long) Math.floor(rampUpArrivals + steadyArrivals + rate * rampDown / 2);
+    }
+
+    long requestCount() {
+        return requestCount;
+    }
+
+    /**
+     * Offset from the start of the run at which the request with the given 0-based index is due
+     */
+    long offsetNanos(long index) {
+        double arrivals = index;
+        double offset;
+        if (arrivals < rampUpArrivals) {
+            offset = Math.sqrt(2 * rampUp * arrivals / rate);
+        } else if (arrivals < rampUpArrivals + steadyArrivals) {
+            offset = rampUp + (arrivals - rampUpArrivals) / rate;
+        } else {
+            double rampDownArrivals = arrivals - rampUpArrivals - steadyArrivals;
+            double discriminant = Math.max(0, 1 - 2 * rampDownArrivals / (rate * rampDown));
+            offset = rampUp + steadyState + rampDown * (1 - Math.sqrt(discriminant));
+        }
+        return (long) (offset * NANOS_PER_SECOND);
+    }
+
+    private static double seconds(long nanos) {
+        return nanos / NANOS_PER_SECOND;
+    }
+}
@@ -0,0 +1,96 @@
+package org.load;
+
+import lombok.extern.log4j.Log4j2;
+import org.api.ResponseWrapper;
+import org.metrics.LatencyHistogram;
+import org.metrics.LatencySnapshot;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+
+/**
+ * Drives an API call at the arrival rate of a {@link LoadProfile}. Requests are fired at their intended
+ * start time and never wait for earlier responses (open model); a late scheduler catches up instead of
+ * shifting the remaining arrivals.
+ * Workers are unbounded platform threads: REST Assured and the HttpClient pool block inside synchronized
+ * code, which pins virtual threads and can starve the carrier threads.
+ */
+@Log4j2
+public class LoadEngine {
+
+    public static LoadResult run(LoadProfile profile, Supplier<? extends ResponseWrapper<?>> call) {
+        ArrivalSchedule schedule = new ArrivalSchedule(profile);
+        int requestCount = Math.toIntExact(schedule.requestCount());
+        LatencyHistogram latencies = new LatencyHistogram();
+        LongAdder succeeded = new LongAdder();
+        LongAdder failed = new LongAdder();
+        long dropped = 0;
+        Semaphore inFlight = profile.getMaxInFlight() > 0 ? new Semaphore(profile.getMaxInFlight()) : null;
+
+        log.info("Load started: {} requests, {}", requestCount, profile);
+        ExecutorService executor = Executors.newCachedThreadPool(Thread.ofPlatform().name("load-worker-", 0).daemon().factory());
+        long start = System.nanoTime();
+        try {
+            for (int i = 0; i < requestCount; i++) {
+                long intendedStart = start + schedule.offsetNanos(i);
+                parkUntil(intendedStart);
+                if (inFlight != null && !inFlight.tryAcquire()) {
+                    dropped++;
+                    continue;
+                }
+                executor.execute(() -> {
+                    try {
+                        long statusCode = call.get().getStatusCode();
+                        (statusCode >= 200 && statusCode <= 299 ? succeeded : failed).increment();
+                    } catch (Throwable e) {
+                        log.debug("Load request failed", e);
+                        failed.increment();
+                    } finally {
+                        latencies.record(intendedStart, System.nanoTime());
+                        if (inFlight != null) {
+                            inFlight.release();
+                        }
+                    }
+                });
+            }
+        } finally {
+            executor.shutdown();
+            awaitDrain(executor, profile.getDrainTimeout());
+        }
+        Duration duration = Duration.ofNanos(System.nanoTime() - start);
+
+        LatencySnapshot latency = latencies.snapshot("load");
+        LoadResult result = new LoadResult(requestCount, succeeded.sum(), failed.sum(), dropped, duration,
+                latency.getCount() / (duration.toNanos() / 1_000_000_000d), latency);
+        log.info("Load finished: {}", result);
+        return result;
+    }
+
+    private static void parkUntil(long deadline) {
+        long remaining;
+        while ((remaining = deadline - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(remaining);
+            if (Thread.currentThread().isInterrupted()) {
+                throw new IllegalStateException("Load run interrupted");
+            }
+        }
+    }
+
+    private static void awaitDrain(ExecutorService executor, Duration timeout) {
+        try {
+            if (!executor.awaitTermination(timeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                log.warn("Requests still in flight after {}, they are not counted", timeout);
+                executor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            executor.shutdownNow();
+        }
+    }
+}
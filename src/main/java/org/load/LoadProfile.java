@@ -0,0 +1,35 @@
+package org.load;
+
+import lombok.Data;
+import lombok.experimental.Accessors;
+
+import java.time.Duration;
+
+/**
+ * Open-model load: the arrival rate grows linearly from 0 to {@link #targetRps} during ramp-up,
+ * stays there for the steady state and falls back to 0 during ramp-down, regardless of how fast
+ * the system under test answers.
+ */
+@Accessors(chain = true)
+@Data
+public class LoadProfile {
+
+    private double targetRps;
+    private Duration rampUp = Duration.ZERO;
+    private Duration steadyState = Duration.ZERO;
+    private Duration rampDown = Duration.ZERO;
+    /**
+     * Upper bound of requests in flight, arrivals above it are dropped instead of delayed; 0 means unbounded
+     */
+    private int maxInFlight;
+    /**
+     * How long to wait for in-flight requests after the last arrival
+     */
+    private Duration drainTimeout = Duration.ofSeconds(30);
+
+    public static LoadProfile constantRate(double targetRps, Duration duration) {
+        return new LoadProfile()
+                .setTargetRps(targetRps)
+                .setSteadyState(duration);
+    }
+}
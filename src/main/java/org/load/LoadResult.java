@@ -0,0 +1,26 @@
+package org.load;
+
+import lombok.Value;
+import org.metrics.LatencySnapshot;
+
+import java.time.Duration;
+
+/**
+ * Outcome of a load run. Latencies are measured from the intended start of each request,
+ * so time spent waiting behind a stalled scheduler or server is included.
+ */
+@Value
+public class LoadResult {
+
+    long scheduled;
+    long succeeded;
+    long failed;
+    long dropped;
+    Duration duration;
+    double achievedRps;
+    LatencySnapshot latency;
+
+    public long getCompleted() {
+        return succeeded + failed;
+    }
+}
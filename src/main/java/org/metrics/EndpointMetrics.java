@@ -0,0 +1,63 @@
+package org.metrics;
+
+import lombok.Getter;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counters and latency of one route. All accumulators are striped, concurrent requests do not contend.
+ */
+public class EndpointMetrics {
+
+    @Getter
+    private final String method;
+    @Getter
+    private final String route;
+    private final LongAdder[] statusClasses = new LongAdder[6];
+    private final LongAdder failures = new LongAdder();
+    private final LongAdder bytesSent = new LongAdder();
+    private final LongAdder bytesReceived = new LongAdder();
+    @Getter
+    private final LatencyHistogram latency = new LatencyHistogram();
+
+    EndpointMetrics(String method, String route) {
+        this.method = method;
+        this.route = route;
+        for (int i = 0; i < statusClasses.length; i++) {
+            statusClasses[i] = new LongAdder();
+        }
+    }
+
+    public void record(int statusCode, long requestBytes, long responseBytes, long startNanos, long endNanos) {
+        statusClasses[Math.clamp(statusCode / 100, 0, statusClasses.length - 1)].increment();
+        bytesSent.add(requestBytes);
+        bytesReceived.add(responseBytes);
+        latency.record(startNanos, endNanos);
+    }
+
+    /**
+     * Request that produced no response, e.g. connection refused or timeout
+     */
+    public void recordFailure(long requestBytes, long startNanos, long endNanos) {
+        failures.increment();
+        bytesSent.add(requestBytes);
+        latency.record(startNanos, endNanos);
+    }
+
+    public EndpointMetricsSnapshot snapshot() {
+        return new EndpointMetricsSnapshot(method, route,
+                statusClasses[2].sum(), statusClasses[3].sum(), statusClasses[4].sum(), statusClasses[5].sum(),
+                statusClasses[0].sum() + statusClasses[1].sum(), failures.sum(), bytesSent.sum(), bytesReceived.sum(),
+                latency.snapshot(method + " " + route));
+    }
+
+    void reset() {
+        for (LongAdder statusClass : statusClasses) {
+            statusClass.reset();
+        }
+        failures.reset();
+        bytesSent.reset();
+        bytesReceived.reset();
+        latency.reset();
+    }
+}
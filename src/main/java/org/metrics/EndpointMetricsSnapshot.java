@@ -0,0 +1,35 @@
+package org.metrics;
+
+import lombok.Value;
+
+@Value
+public class EndpointMetricsSnapshot {
+
+    String method;
+    String route;
+    long status2xx;
+    long status3xx;
+    long status4xx;
+    long status5xx;
+    long statusOther;
+    long failures;
+    long bytesSent;
+    long bytesReceived;
+    LatencySnapshot latency;
+
+    public long getRequests() {
+        return status2xx + status3xx + status4xx + status5xx + statusOther + failures;
+    }
+
+    /**
+     * 4xx, 5xx and requests without a response
+     */
+    public long getErrors() {
+        return status4xx + status5xx + failures;
+    }
+
+    public double getErrorRate() {
+        long requests = getRequests();
+        return requests == 0 ? 0 : (double) getErrors() / requests;
+    }
+}
@@ -0,0 +1,56 @@
+package org.metrics;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.util.concurrent.atomic.LongAccumulator;
+
+/**
+ * Nanosecond latency histogram safe for concurrent writers. Values go to one of a fixed number of
+ * wait-free {@link Recorder} stripes picked by thread id, so writers rarely share one, and the stripes
+ * are merged when a snapshot is taken. The stripe count is bounded, so virtual threads do not grow it.
+ */
+public class LatencyHistogram {
+
+    private static final int SIGNIFICANT_DIGITS = 3;
+    private static final int STRIPES = Integer.highestOneBit(Runtime.getRuntime().availableProcessors() * 2 - 1) << 1;
+
+    private final Recorder[] stripes = new Recorder[STRIPES];
+    private final Histogram accumulated = new Histogram(SIGNIFICANT_DIGITS);
+    private final Histogram interval = new Histogram(SIGNIFICANT_DIGITS);
+    private final LongAccumulator firstStart = new LongAccumulator(Math::min, Long.MAX_VALUE);
+    private final LongAccumulator lastEnd = new LongAccumulator(Math::max, Long.MIN_VALUE);
+
+    public LatencyHistogram() {
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new Recorder(SIGNIFICANT_DIGITS);
+        }
+    }
+
+    /**
+     * Records one request, both arguments are {@link System#nanoTime()} readings
+     */
+    public void record(long startNanos, long endNanos) {
+        stripes[(int) (Thread.currentThread().threadId() & (STRIPES - 1))].recordValue(Math.max(0, endNanos - startNanos));
+        firstStart.accumulate(startNanos);
+        lastEnd.accumulate(endNanos);
+    }
+
+    public synchronized LatencySnapshot snapshot(String name) {
+        for (Recorder stripe : stripes) {
+            stripe.getIntervalHistogramInto(interval);
+            accumulated.add(interval);
+        }
+        long windowNanos = accumulated.getTotalCount() == 0 ? 0 : lastEnd.get() - firstStart.get();
+        return new LatencySnapshot(name, accumulated.copy(), windowNanos);
+    }
+
+    public synchronized void reset() {
+        for (Recorder stripe : stripes) {
+            stripe.reset();
+        }
+        accumulated.reset();
+        firstStart.reset();
+        lastEnd.reset();
+    }
+}
@@ -0,0 +1,29 @@
+package org.metrics;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Latency view of {@link MetricsRegistry} per endpoint, e.g. {@code GET /api/v1/Books/{id}}.
+ */
+public class LatencyRecorder {
+
+    public static void record(String endpoint, long startNanos, long endNanos) {
+        MetricsRegistry.endpoint(endpoint).getLatency().record(startNanos, endNanos);
+    }
+
+    public static LatencySnapshot snapshot(String endpoint) {
+        EndpointMetrics metrics = MetricsRegistry.find(endpoint);
+        return (metrics == null ? new LatencyHistogram() : metrics.getLatency()).snapshot(endpoint);
+    }
+
+    public static Map<String, LatencySnapshot> snapshots() {
+        Map<String, LatencySnapshot> snapshots = new TreeMap<>();
+        MetricsRegistry.snapshots().forEach(snapshot -> snapshots.put(snapshot.getLatency().getName(), snapshot.getLatency()));
+        return snapshots;
+    }
+
+    public static void reset() {
+        MetricsRegistry.reset();
+    }
+}
@@ -0,0 +1,73 @@
+package org.metrics;
+
+import lombok.Getter;
+import org.HdrHistogram.Histogram;
+
+import java.time.Duration;
+
+/**
+ * Immutable view of a {@link LatencyHistogram}; percentiles keep nanosecond precision.
+ */
+public class LatencySnapshot {
+
+    @Getter
+    private final String name;
+    private final Histogram histogram;
+    private final long windowNanos;
+
+    LatencySnapshot(String name, Histogram histogram, long windowNanos) {
+        this.name = name;
+        this.histogram = histogram;
+        this.windowNanos = windowNanos;
+    }
+
+    public long getCount() {
+        return histogram.getTotalCount();
+    }
+
+    /**
+     * Completed requests per second between the first request start and the last request end
+     */
+    public double getThroughput() {
+        return windowNanos <= 0 ? 0 : getCount() * 1_000_000_000d / windowNanos;
+    }
+
+    public Duration getPercentile(double percentile) {
+        return Duration.ofNanos(histogram.getValueAtPercentile(percentile));
+    }
+
+    public Duration getP50() {
+        return getPercentile(50);
+    }
+
+    public Duration getP95() {
+        return getPercentile(95);
+    }
+
+    public Duration getP99() {
+        return getPercentile(99);
+    }
+
+    public Duration getP999() {
+        return getPercentile(99.9);
+    }
+
+    public Duration getMax() {
+        return Duration.ofNanos(histogram.getMaxValue());
+    }
+
+    public Duration getMean() {
+        return Duration.ofNanos((long) histogram.getMean());
+    }
+
+    @Override
+    public String toString() {
+        return "%s: count=%d, throughput=%.1f/s, p50=%.3f ms, p95=%.3f ms, p99=%.3f ms, p99.9=%.3f ms, max=%.3f ms"
+                .formatted(name, getCount(), getThroughput(), millis(getP50()), millis(getP95()), millis(getP99()),
+                        millis(getP999()), millis(getMax()));
+    }
+
+    private static double millis(Duration duration) {
+        return duration.toNanos() / 1_000_000d;
+    }
+}
@@ -0,0 +1,38 @@
+package org.metrics;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Process-wide client metrics keyed by method and route template, e.g. {@code GET /api/v1/Books/{id}}.
+ */
+public class MetricsRegistry {
+
+    private static final Map<String, EndpointMetrics> ENDPOINTS = new ConcurrentHashMap<>();
+
+    public static EndpointMetrics endpoint(String method, String route) {
+        return ENDPOINTS.computeIfAbsent(method + " " + route, key -> new EndpointMetrics(method, route));
+    }
+
+    static EndpointMetrics endpoint(String endpoint) {
+        int separator = endpoint.indexOf(' ');
+        return separator < 0 ? endpoint("", endpoint) : endpoint(endpoint.substring(0, separator), endpoint.substring(separator + 1));
+    }
+
+    static EndpointMetrics find(String endpoint) {
+        return ENDPOINTS.get(endpoint);
+    }
+
+    public static List<EndpointMetricsSnapshot> snapshots() {
+        return ENDPOINTS.values().stream()
+                .map(EndpointMetrics::snapshot)
+                .sorted(Comparator.comparing(EndpointMetricsSnapshot::getRoute).thenComparing(EndpointMetricsSnapshot::getMethod))
+                .toList();
+    }
+
+    public static void reset() {
+        ENDPOINTS.values().forEach(EndpointMetrics::reset);
+    }
+}
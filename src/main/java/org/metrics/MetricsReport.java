@@ -0,0 +1,151 @@
+package org.metrics;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import org.utils.ObjectMapperRegistry;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Renders {@link MetricsRegistry} snapshots as JSON and as Prometheus text exposition format.
+ */
+public class MetricsReport {
+
+    public static final String JSON_FILE = "client-metrics.json";
+    public static final String PROMETHEUS_FILE = "client-metrics.prom";
+
+    private static final double[] QUANTILES = {0.5, 0.95, 0.99, 0.999};
+
+    private final List<EndpointMetricsSnapshot> endpoints;
+
+    public MetricsReport(List<EndpointMetricsSnapshot> endpoints) {
+        this.endpoints = endpoints;
+    }
+
+    public static MetricsReport current() {
+        return new MetricsReport(MetricsRegistry.snapshots());
+    }
+
+    public boolean isEmpty() {
+        return endpoints.stream().allMatch(endpoint -> endpoint.getRequests() == 0);
+    }
+
+    public String toJson() {
+        List<Map<String, Object>> json = endpoints.stream().map(MetricsReport::toJson).toList();
+        try {
+            return ObjectMapperRegistry.getApiMapper().writerWithDefaultPrettyPrinter().writeValueAsString(json);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException("Unable to render metrics", e);
+        }
+    }
+
+    public String toPrometheus() {
+        StringBuilder text = new StringBuilder();
+        header(text, "api_client_requests_total", "counter", "Requests by route and response status class");
+        for (EndpointMetricsSnapshot endpoint : endpoints) {
+            sample(text, "api_client_requests_total", endpoint, "status_class=\"2xx\"", endpoint.getStatus2xx());
+            sample(text, "api_client_requests_total", endpoint, "status_class=\"3xx\"", endpoint.getStatus3xx());
+            sample(text, "api_client_requests_total", endpoint, "status_class=\"4xx\"", endpoint.getStatus4xx());
+            sample(text, "api_client_requests_total", endpoint, "status_class=\"5xx\"", endpoint.getStatus5xx());
+            sample(text, "api_client_requests_total", endpoint, "status_class=\"other\"", endpoint.getStatusOther());
+            sample(text, "api_client_requests_total", endpoint, "status_class=\"none\"", endpoint.getFailures());
+        }
+        header(text, "api_client_request_bytes_total", "counter", "Request body bytes sent");
+        endpoints.forEach(endpoint -> sample(text, "api_client_request_bytes_total", endpoint, null, endpoint.getBytesSent()));
+        header(text, "api_client_response_bytes_total", "counter", "Response body bytes received");
+        endpoints.forEach(endpoint -> sample(text, "api_client_response_bytes_total", endpoint, null, endpoint.getBytesReceived()));
+        header(text, "api_client_request_duration_seconds", "summary", "HTTP exchange duration");
+        for (EndpointMetricsSnapshot endpoint : endpoints) {
+            LatencySnapshot latency = endpoint.getLatency();
+            for (double quantile : QUANTILES) {
+                sample(text, "api_client_request_duration_seconds", endpoint, "quantile=\"" + quantile + "\"",
+                        seconds(latency.getPercentile(quantile * 100)));
+            }
+            sample(text, "api_client_request_duration_seconds_sum", endpoint, null,
+                    seconds(latency.getMean()) * latency.getCount());
+            sample(text, "api_client_request_duration_seconds_count", endpoint, null, latency.getCount());
+        }
+        return text.toString();
+    }
+
+    public void write(Path directory) {
+        try {
+            Files.createDirectories(directory);
+            Files.writeString(directory.resolve(JSON_FILE), toJson());
+            Files.writeString(directory.resolve(PROMETHEUS_FILE), toPrometheus());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to write metrics to " + directory, e);
+        }
+    }
+
+    private static Map<String, Object> toJson(EndpointMetricsSnapshot endpoint) {
+        LatencySnapshot latency = endpoint.getLatency();
+        Map<String, Object> latencyJson = new LinkedHashMap<>();
+        latencyJson.put("p50Ms", millis(latency.getP50()));
+        latencyJson.put("p95Ms", millis(latency.getP95()));
+        latencyJson.put("p99Ms", millis(latency.getP99()));
+        latencyJson.put("p999Ms", millis(latency.getP999()));
+        latencyJson.put("maxMs", millis(latency.getMax()));
+        latencyJson.put("meanMs", millis(latency.getMean()));
+
+        Map<String, Object> status = new LinkedHashMap<>();
+        status.put("2xx", endpoint.getStatus2xx());
+        status.put("3xx", endpoint.getStatus3xx());
+        status.put("4xx", endpoint.getStatus4xx());
+        status.put("5xx", endpoint.getStatus5xx());
+        status.put("other", endpoint.getStatusOther());
+
+        Map<String, Object> json = new LinkedHashMap<>();
+        json.put("method", endpoint.getMethod());
+        json.put("route", endpoint.getRoute());
+        json.put("requests", endpoint.getRequests());
+        json.put("status", status);
+        json.put("failures", endpoint.getFailures());
+        json.put("errorRate", endpoint.getErrorRate());
+        json.put("bytesSent", endpoint.getBytesSent());
+        json.put("bytesReceived", endpoint.getBytesReceived());
+        json.put("throughputPerSecond", latency.getThroughput());
+        json.put("latency", latencyJson);
+        return json;
+    }
+
+    private static void header(StringBuilder text, String name, String type, String help) {
+        text.append("# HELP ").append(name).append(' ').append(help).append('\n')
+                .append("# TYPE ").append(name).append(' ').append(type).append('\n');
+    }
+
+    private static void sample(StringBuilder text, String name, EndpointMetricsSnapshot endpoint, String label, Number value) {
+        text.append(name)
+                .append("{method=\"").append(escape(endpoint.getMethod()))
+                .append("\",route=\"").append(escape(endpoint.getRoute())).append('"');
+        if (label != null) {
+            text.append(',').append(label);
+        }
+        text.append("} ");
+        if (value instanceof Double number) {
+            text.append(String.format(Locale.ROOT, "%.9f", number));
+        } else {
+            text.append(value);
+        }
+        text.append('\n');
+    }
+
+    private static String escape(String value) {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+    }
+
+    private static double millis(Duration duration) {
+        return duration.toNanos() / 1_000_000d;
+    }
+
+    private static double seconds(Duration duration) {
+        return duration.toNanos() / 1_000_000_000d;
+    }
+}
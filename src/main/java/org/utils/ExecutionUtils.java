@@ -0,0 +1,33 @@
+package org.utils;
+
+import org.configuration.ConfigurationLoader;
+import org.configuration.model.ThreadMode;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Supplier;
+
+public class ExecutionUtils {
+
+    private static final Executor EXECUTOR = createExecutor();
+
+    /**
+     * Executor for helper concurrency inside tests, virtual thread per task in {@link ThreadMode#VIRTUAL} mode
+     */
+    public static Executor getExecutor() {
+        return EXECUTOR;
+    }
+
+    public static <T> CompletableFuture<T> supplyAsync(Supplier<T> supplier) {
+        return CompletableFuture.supplyAsync(supplier, EXECUTOR);
+    }
+
+    private static Executor createExecutor() {
+        if (ConfigurationLoader.getSnapshot().getThreadMode() == ThreadMode.VIRTUAL) {
+            return Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("virtual-worker-", 0).factory());
+        }
+        return ForkJoinPool.commonPool();
+    }
+}
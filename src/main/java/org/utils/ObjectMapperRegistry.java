@@ -0,0 +1,67 @@
+package org.utils;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.api.model.Author;
+import org.api.model.Book;
+import org.api.model.ErrorModel;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+/**
+ * Single place for the Jackson configuration used by the API client and by the utilities.
+ * ObjectMapper, ObjectReader and ObjectWriter are thread-safe once configured, so one instance
+ * per type is shared and its serializer/deserializer caches survive between calls.
+ */
+public class ObjectMapperRegistry {
+
+    private static final ObjectMapper API_MAPPER = createApiMapper();
+    private static final Map<JavaType, ObjectReader> READERS = new ConcurrentHashMap<>();
+    private static final Map<Class<?>, ObjectWriter> WRITERS = new ConcurrentHashMap<>();
+
+    static {
+        Stream.of(Book.class, Author.class, ErrorModel.class).forEach(modelClass -> {
+            readerFor(modelClass);
+            writerFor(modelClass);
+            readerFor(API_MAPPER.getTypeFactory().constructCollectionType(List.class, modelClass));
+        });
+    }
+
+    public static ObjectMapper getApiMapper() {
+        return API_MAPPER;
+    }
+
+    public static ObjectReader readerFor(Class<?> type) {
+        return readerFor(API_MAPPER.constructType(type));
+    }
+
+    public static ObjectReader readerFor(TypeReference<?> typeReference) {
+        return readerFor(API_MAPPER.getTypeFactory().constructType(typeReference));
+    }
+
+    public static ObjectReader readerFor(JavaType type) {
+        return READERS.computeIfAbsent(type, t -> API_MAPPER.readerFor(type));
+    }
+
+    public static ObjectWriter writerFor(Class<?> type) {
+        return WRITERS.computeIfAbsent(type, t -> API_MAPPER.writerFor(type));
+    }
+
+    private static ObjectMapper createApiMapper() {
+        ObjectMapper objectMapper = new ObjectMapper();
+        objectMapper.setSerializationInclusion(JsonInclude.Include.NON_NULL);
+        objectMapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, true);
+        objectMapper.setVisibility(PropertyAccessor.FIELD, JsonAutoDetect.Visibility.ANY);
+        return objectMapper;
+    }
+}
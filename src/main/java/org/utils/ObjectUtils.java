@@ -1,11 +1,151 @@
 package org.utils;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.temporal.TemporalAccessor;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
 
 public class ObjectUtils {
 
+    /**
+     * Copy strategy per runtime class, resolved once: immutable values are shared, lists/sets/maps are rebuilt,
+     * beans are copied field by field through cached method handles
+     */
+    private static final ClassValue<Copier> COPIERS = new ClassValue<>() {
+        @Override
+        protected Copier computeValue(Class<?> type) {
+            return copierFor(type);
+        }
+    };
+
+    @SuppressWarnings("unchecked")
     public static <T> T deepCopy(T data) {
-        final Class<T> cls = org.apache.commons.lang3.ObjectUtils.getClass(data);
-        return new ObjectMapper().convertValue(data, cls);
+        return (T) copy(data);
+    }
+
+    private static Object copy(Object value) {
+        return value == null ? null : COPIERS.get(value.getClass()).copy(value);
+    }
+
+    private static Copier copierFor(Class<?> type) {
+        if (isImmutable(type)) {
+            return value -> value;
+        }
+        if (List.class.isAssignableFrom(type)) {
+            return value -> copyInto(new ArrayList<>(((Collection<?>) value).size()), (Collection<?>) value);
+        }
+        if (Set.class.isAssignableFrom(type)) {
+            return value -> copyInto(new LinkedHashSet<>(), (Collection<?>) value);
+        }
+        if (Map.class.isAssignableFrom(type)) {
+            return value -> {
+                Map<Object, Object> copy = new LinkedHashMap<>();
+                ((Map<?, ?>) value).forEach((key, entry) -> copy.put(key, copy(entry)));
+                return copy;
+            };
+        }
+        Copier beanCopier = BeanCopier.of(type);
+        return beanCopier != null ? beanCopier : ObjectUtils::jacksonCopy;
+    }
+
+    private static boolean isImmutable(Class<?> type) {
+        return type.isPrimitive() || type == String.class || type == Boolean.class || type == Character.class
+                || type == Integer.class || type == Long.class || type == Short.class || type == Byte.class
+                || type == Double.class || type == Float.class || type == BigDecimal.class || type == BigInteger.class
+                || type == UUID.class || type.isEnum()
+                || (TemporalAccessor.class.isAssignableFrom(type) && type.getName().startsWith("java.time."));
+    }
+
+    private static Collection<Object> copyInto(Collection<Object> copy, Collection<?> source) {
+        for (Object element : source) {
+            copy.add(copy(element));
+        }
+        return copy;
+    }
+
+    /**
+     * Arrays and classes without a no-arg constructor or with final fields
+     */
+    private static Object jacksonCopy(Object value) {
+        return ObjectMapperRegistry.getApiMapper().convertValue(value, value.getClass());
+    }
+
+    @FunctionalInterface
+    private interface Copier {
+
+        Object copy(Object value);
+    }
+
+    private static final class BeanCopier implements Copier {
+
+        private static final MethodType CONSTRUCTOR = MethodType.methodType(Object.class);
+        private static final MethodType GETTER = MethodType.methodType(Object.class, Object.class);
+        private static final MethodType SETTER = MethodType.methodType(void.class, Object.class, Object.class);
+
+        private final MethodHandle constructor;
+        private final MethodHandle[] getters;
+        private final MethodHandle[] setters;
+
+        private BeanCopier(MethodHandle constructor, MethodHandle[] getters, MethodHandle[] setters) {
+            this.constructor = constructor;
+            this.getters = getters;
+            this.setters = setters;
+        }
+
+        static BeanCopier of(Class<?> type) {
+            if (type.isArray() || type.isInterface() || Modifier.isAbstract(type.getModifiers())) {
+                return null;
+            }
+            try {
+                MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(type, MethodHandles.lookup());
+                MethodHandle constructor = lookup.findConstructor(type, MethodType.methodType(void.class)).asType(CONSTRUCTOR);
+                List<MethodHandle> getters = new ArrayList<>();
+                List<MethodHandle> setters = new ArrayList<>();
+                for (Class<?> declaring = type; declaring != Object.class; declaring = declaring.getSuperclass()) {
+                    for (Field field : declaring.getDeclaredFields()) {
+                        int modifiers = field.getModifiers();
+                        if (Modifier.isStatic(modifiers)) {
+                            continue;
+                        }
+                        if (Modifier.isFinal(modifiers)) {
+                            return null;
+                        }
+                        getters.add(lookup.unreflectGetter(field).asType(GETTER));
+                        setters.add(lookup.unreflectSetter(field).asType(SETTER));
+                    }
+                }
+                return new BeanCopier(constructor, getters.toArray(MethodHandle[]::new), setters.toArray(MethodHandle[]::new));
+            } catch (ReflectiveOperationException | IllegalArgumentException e) {
+                return null;
+            }
+        }
+
+        @Override
+        public Object copy(Object value) {
+            try {
+                Object copy = (Object) constructor.invokeExact();
+                for (int i = 0; i < getters.length; i++) {
+                    Object fieldValue = (Object) getters[i].invokeExact(value);
+                    setters[i].invokeExact(copy, ObjectUtils.copy(fieldValue));
+                }
+                return copy;
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new IllegalStateException("Unable to copy " + value.getClass().getName(), e);
+            }
+        }
     }
 }
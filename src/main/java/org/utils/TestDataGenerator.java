@@ -0,0 +1,101 @@
+package org.utils;
+
+import lombok.extern.log4j.Log4j2;
+import org.api.model.Author;
+import org.api.model.Book;
+import org.configuration.ConfigurationLoader;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Generates unique, seeded test data. Every generated value gets a number from a process-wide
+ * sequence; names are built from the run id and that number, and random fields are a SplitMix64 hash
+ * of the seed and the number, so with the same {@code testData.seed} a given sequence number always yields
+ * the same values. Numbers are handed out in call order, so a test only gets the same data again when the
+ * tests run single-threaded; in parallel runs the assignment depends on thread scheduling. The run id is random per process and
+ * independent of the seed, so reruns with a pinned seed do not collide on a shared backend.
+ */
+@Log4j2
+public class TestDataGenerator {
+
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+    private static final int MAX_PAGE_COUNT = 999;
+
+    private static final long SEED = resolveSeed();
+    private static final String RUN_ID = Long.toString(ThreadLocalRandom.current().nextLong() >>> 34, 36);
+    private static final AtomicLong SEQUENCE = new AtomicLong();
+
+    public static long getSeed() {
+        return SEED;
+    }
+
+    public static long nextSequence() {
+        return SEQUENCE.incrementAndGet();
+    }
+
+    public static String uniqueName(String prefix) {
+        return uniqueName(prefix, nextSequence());
+    }
+
+    /**
+     * Random int in [origin, bound) derived from the seed, the sequence number and a per-field salt
+     */
+    public static int nextInt(long sequence, int salt, int origin, int bound) {
+        long random = mix(SEED + sequence * GOLDEN_GAMMA + salt);
+        return origin + (int) ((random >>> 1) % (bound - origin));
+    }
+
+    public static Book book() {
+        long sequence = nextSequence();
+        return new Book()
+                .setTitle(uniqueName("book", sequence))
+                .setPageCount(nextInt(sequence, 1, 1, MAX_PAGE_COUNT + 1))
+                .setDescription("Random description");
+    }
+
+    public static Author author(Long bookId) {
+        long sequence = nextSequence();
+        return new Author()
+                .setIdBook(bookId)
+                .setFirstName(uniqueName("first", sequence))
+                .setLastName(uniqueName("last", sequence));
+    }
+
+    public static List<Book> books(int count) {
+        List<Book> books = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            books.add(book());
+        }
+        return books;
+    }
+
+    public static List<Author> authors(List<Long> bookIds) {
+        List<Author> authors = new ArrayList<>(bookIds.size());
+        for (Long bookId : bookIds) {
+            authors.add(author(bookId));
+        }
+        return authors;
+    }
+
+    private static String uniqueName(String prefix, long sequence) {
+        return prefix + '-' + RUN_ID + '-' + sequence;
+    }
+
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    private static long resolveSeed() {
+        long seed = ConfigurationLoader.getAutomationConfiguration().getTestData().getSeed();
+        if (seed == 0) {
+            seed = ThreadLocalRandom.current().nextLong();
+        }
+        log.info("Test data seed: {} (rerun with -DtestData.seed={}), names are unique per run", seed, seed);
+        return seed;
+    }
+}
@@ -1,13 +1,26 @@
 package org.api;
 
-import groovy.util.logging.Log4j2;
+import io.qameta.allure.Allure;
+import lombok.extern.log4j.Log4j2;
 import org.api.action.AuthorsApiActions;
 import org.api.action.BookApiActions;
+import org.api.filter.AdaptiveConcurrencyFilter;
+import org.api.filter.ResponseCache;
+import org.api.filter.SingleFlightFilter;
 import org.api.model.Author;
 import org.api.model.Book;
+import org.api.stub.LocalApiServer;
+import org.configuration.ConfigurationLoader;
+import org.configuration.model.ValidationConfiguration;
+import org.metrics.LatencyRecorder;
+import org.metrics.MetricsReport;
+import org.testng.SkipException;
 import org.testng.annotations.AfterMethod;
+import org.testng.annotations.AfterSuite;
 import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.BeforeSuite;
 
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -15,41 +28,120 @@ import java.util.List;
 @Log4j2
 public class BaseApiTest {
 
+    private static final Path METRICS_DIRECTORY = Path.of("build", "reports", "metrics");
+
     protected BookApiActions bookApiActions;
     protected AuthorsApiActions authorsApiActions;
 
-    private List<Long> booksForCleanup;
-    private List<Long> authorsForCleanup;
+    /**
+     * Methods of one class run in parallel on a shared instance, cleanup lists are kept per test thread
+     */
+    private final ThreadLocal<List<Long>> booksForCleanup = new ThreadLocal<>();
+    private final ThreadLocal<List<Long>> authorsForCleanup = new ThreadLocal<>();
+    private final ThreadLocal<List<FixturePool.Fixture>> leasedFixtures = new ThreadLocal<>();
+
+    @BeforeSuite(alwaysRun = true)
+    public void warmUpSchemas() {
+        ValidationConfiguration validation = ConfigurationLoader.getAutomationConfiguration().getValidation();
+        if (validation.isWarmUpSchemas() && validation.getSchemaDirectory() != null) {
+            JsonSchemaCache.warmUp(Path.of(validation.getSchemaDirectory()));
+        }
+    }
+
+    @BeforeSuite(alwaysRun = true)
+    public void warmUpFixturePool() {
+        FixturePool.getInstance().warmUp();
+    }
 
     @BeforeMethod(alwaysRun = true)
     public void setUp() {
         bookApiActions = new BookApiActions();
-        booksForCleanup = Collections.synchronizedList(new ArrayList<>());
-        authorsForCleanup = Collections.synchronizedList(new ArrayList<>());
+        authorsApiActions = new AuthorsApiActions();
+        booksForCleanup.set(Collections.synchronizedList(new ArrayList<>()));
+        authorsForCleanup.set(Collections.synchronizedList(new ArrayList<>()));
+        leasedFixtures.set(Collections.synchronizedList(new ArrayList<>()));
     }
 
     @AfterMethod(alwaysRun = true)
     public void cleanup() {
-        booksForCleanup.forEach(id -> {
-            try {
-                bookApiActions.getBookApi().deleteBook(id);
-            } catch (Throwable ignore) {
-            }
-        });
-        authorsForCleanup.forEach(id -> {
-            try {
-                authorsApiActions.getAuthorsApi().deleteAuthor(id);
-            } catch (Throwable ignore) {
-            }
-        });
+        leasedFixtures.get().forEach(FixturePool.getInstance()::release);
+        List<Long> authors = List.copyOf(authorsForCleanup.get());
+        List<Long> books = List.copyOf(booksForCleanup.get());
+        if (TestDataCleaner.isDeferred()) {
+            TestDataCleaner.defer(authors, books);
+            return;
+        }
+        TestDataCleaner.CleanupReport report = new TestDataCleaner().clean(authors, books);
+        log.debug("Cleanup: {}", report);
+    }
 
+    @AfterSuite(alwaysRun = true)
+    public void tearDownFixturePool() {
+        log.info("Fixture pool cleanup: {}", FixturePool.stopInstance());
+    }
+
+    @AfterSuite(alwaysRun = true, dependsOnMethods = "tearDownFixturePool")
+    public void drainDeferredCleanup() {
+        if (TestDataCleaner.isDeferred()) {
+            log.info("Deferred cleanup: {}", new TestDataCleaner().drain());
+        }
+        log.info("Test data cleanup total: {}", TestDataCleaner.getTotals());
+    }
+
+    @AfterSuite(alwaysRun = true)
+    public void logConnectionPoolStats() {
+        log.info("HTTP connection pool stats: {}", BaseApiConfig.getConnectionPoolStats());
+        AdaptiveConcurrencyFilter.limits().forEach((endpoint, limit) ->
+                log.info("Concurrency limit {}: {}", endpoint, "%.1f".formatted(limit)));
+        if (ResponseCache.isEnabled()) {
+            log.info("Response cache stats: {}", ResponseCache.getStats());
+        }
+        if (SingleFlightFilter.isEnabled()) {
+            log.info("Single-flight stats: {}", SingleFlightFilter.getStats());
+        }
+    }
+
+    @AfterSuite(alwaysRun = true, dependsOnMethods = "drainDeferredCleanup")
+    public void exportClientMetrics() {
+        MetricsReport report = MetricsReport.current();
+        if (report.isEmpty()) {
+            return;
+        }
+        LatencyRecorder.snapshots().values().forEach(snapshot -> log.info("Latency {}", snapshot));
+        report.write(METRICS_DIRECTORY);
+        Allure.addAttachment("Client metrics", "application/json", report.toJson(), ".json");
+        Allure.addAttachment("Client metrics (Prometheus)", "text/plain", report.toPrometheus(), ".prom");
+        log.info("Client metrics written to {}", METRICS_DIRECTORY.toAbsolutePath());
+    }
+
+    @AfterSuite(alwaysRun = true, dependsOnMethods = "drainDeferredCleanup")
+    public void stopLocalApiServer() {
+        LocalApiServer.stopInstance();
+    }
+
+    /**
+     * Book with exactly one author from the suite fixture pool, returned after the test. Must not be modified.
+     */
+    protected FixturePool.Fixture leaseFixture() {
+        FixturePool.Fixture fixture = FixturePool.getInstance().lease();
+        leasedFixtures.get().add(fixture);
+        return fixture;
+    }
+
+    /**
+     * Skips a test whose expectation the local stub does not share with the real API
+     */
+    protected void skipOnLocalStub(String reason) {
+        if (LocalApiServer.LOCAL.equalsIgnoreCase(ConfigurationLoader.getSnapshot().getBaseApi())) {
+            throw new SkipException("Not applicable to the local stub: " + reason);
+        }
     }
 
     protected void addBookToCleanup(Book... books) {
         if (books == null) return;
         for (Book book : books) {
             if (book != null && book.getId() != null) {
-                booksForCleanup.add(book.getId());
+                booksForCleanup.get().add(book.getId());
             }
         }
     }
@@ -58,7 +150,7 @@ public class BaseApiTest {
         if (authors == null) return;
         for (Author author : authors) {
             if (author != null && author.getId() != null) {
-                authorsForCleanup.add(author.getId());
+                authorsForCleanup.get().add(author.getId());
             }
         }
     }
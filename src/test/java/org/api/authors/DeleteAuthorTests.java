@@ -8,6 +8,8 @@ import org.api.model.ErrorModel;
 import org.assertj.core.api.Assertions;
 import org.testng.annotations.Test;
 
+import java.util.stream.Stream;
+
 @Epic("Authors API")
 @Feature("Authors Management")
 @Story("Delete Author")
@@ -89,9 +91,10 @@ public class DeleteAuthorTests extends BaseApiTest {
 
         authorsApiActions.deleteAuthor(author.getId());
 
-        var allAuthors = authorsApiActions.getAuthors();
-        boolean authorExists = allAuthors.stream()
-                .anyMatch(a -> a.getId().equals(author.getId()));
+        boolean authorExists;
+        try (Stream<Author> allAuthors = authorsApiActions.streamAuthors()) {
+            authorExists = allAuthors.anyMatch(a -> a.getId().equals(author.getId()));
+        }
 
         Assertions.assertThat(authorExists)
                 .as("Deleted author should not appear in get all authors list")
@@ -1,32 +1,48 @@
 package org.api.authors;
 
 import io.qameta.allure.*;
+import org.annotations.ConcurrencyGroup;
 import org.annotations.NonRetryable;
 import org.api.BaseApiTest;
-import org.api.ResponseWrapper;
+import org.api.FixturePool;
+import org.api.call.AuthorsApi;
 import org.api.model.Author;
 import org.api.model.Book;
 import org.api.model.ErrorModel;
 import org.assertj.core.api.Assertions;
+import org.load.LoadEngine;
+import org.load.LoadProfile;
+import org.load.LoadResult;
 import org.testng.annotations.Test;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
-import java.util.concurrent.CompletableFuture;
 import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 @Epic("Authors API")
 @Feature("Authors Management")
 @Story("Get Author")
 public class GetAuthorTests extends BaseApiTest {
 
+    private static final LoadProfile READ_ALL_LOAD = new LoadProfile()
+            .setTargetRps(10)
+            .setRampUp(Duration.ofSeconds(2))
+            .setSteadyState(Duration.ofSeconds(5))
+            .setRampDown(Duration.ofSeconds(2));
+
+    private static final LoadProfile READ_BY_ID_LOAD = new LoadProfile()
+            .setTargetRps(20)
+            .setRampUp(Duration.ofSeconds(1))
+            .setSteadyState(Duration.ofSeconds(3))
+            .setRampDown(Duration.ofSeconds(1));
+
     @Test(groups = {"smoke"})
     @Severity(SeverityLevel.CRITICAL)
     public void getAuthorById() {
-        Book book = bookApiActions.createBook(Book.createValidBookDTO());
-        addBookToCleanup(book);
-
-        Author createdAuthor = authorsApiActions.createAuthors(Author.createValidAuthorDTOForBook(book.getId()));
-        addAuthorToCleanup(createdAuthor);
+        Author createdAuthor = leaseFixture().getAuthor();
 
         Author retrievedAuthor = authorsApiActions.getAuthorById(createdAuthor.getId());
 
@@ -73,27 +89,30 @@ public class GetAuthorTests extends BaseApiTest {
     @Test(groups = {"smoke"})
     @Severity(SeverityLevel.CRITICAL)
     public void getAllAuthors() {
-        Book book1 = bookApiActions.createBook(Book.createValidBookDTO());
-        Book book2 = bookApiActions.createBook(Book.createValidBookDTO());
-        addBookToCleanup(book1, book2);
-
-        Author author1 = authorsApiActions.createAuthors(Author.createValidAuthorDTOForBook(book1.getId()));
-        Author author2 = authorsApiActions.createAuthors(Author.createValidAuthorDTOForBook(book2.getId()));
-        addAuthorToCleanup(author1, author2);
-
-        List<Author> allAuthors = authorsApiActions.getAuthors();
-
-        Assertions.assertThat(allAuthors)
-                .as("Authors list should not be null")
-                .isNotNull();
-
-        Assertions.assertThat(allAuthors)
+        FixturePool.Fixture fixture1 = leaseFixture();
+        Author author2 = leaseFixture().getAuthor();
+        Book book1 = fixture1.getBook();
+        Author author1 = fixture1.getAuthor();
+
+        List<Author> authorsMatchedToAuthor1 = new ArrayList<>();
+        boolean author2Listed = false;
+        long authorsCount = 0;
+        try (Stream<Author> allAuthors = authorsApiActions.streamAuthors()) {
+            Assertions.assertThat(allAuthors)
+                    .as("Authors list should not be null")
+                    .isNotNull();
+            for (Iterator<Author> authors = allAuthors.iterator(); authors.hasNext(); authorsCount++) {
+                Author author = authors.next();
+                if (author.getId().equals(author1.getId())) {
+                    authorsMatchedToAuthor1.add(author);
+                }
+                author2Listed |= author.getId().equals(author2.getId());
+            }
+        }
+
+        Assertions.assertThat(authorsCount)
                 .as("Authors list should not be empty")
-                .isNotEmpty();
-
-        List<Author> authorsMatchedToAuthor1 = allAuthors.stream()
-                .filter(s -> s.getId().equals(author1.getId()))
-                .toList();
+                .isPositive();
 
         Assertions.assertThat(authorsMatchedToAuthor1)
                 .as("Check that only 1 author matched criteria to author #1")
@@ -106,17 +125,18 @@ public class GetAuthorTests extends BaseApiTest {
         Assertions.assertThat(authorsMatchedToAuthor1.getFirst().getIdBook())
                 .as("Author should be associated with correct book")
                 .isEqualTo(book1.getId());
+
+        Assertions.assertThat(author2Listed)
+                .as("Author #2 should be listed as well")
+                .isTrue();
     }
 
     @Test(groups = {"regression"})
     @Severity(SeverityLevel.NORMAL)
     public void getAuthorByBookId() {
-        Book book = bookApiActions.createBook(Book.createValidBookDTO());
-        addBookToCleanup(book);
-
-        Author authorToCreate = Author.createValidAuthorDTOForBook(book.getId());
-        Author createdAuthor = authorsApiActions.createAuthors(authorToCreate);
-        addAuthorToCleanup(createdAuthor);
+        FixturePool.Fixture fixture = leaseFixture();
+        Book book = fixture.getBook();
+        Author createdAuthor = fixture.getAuthor();
 
         Author retrievedAuthor = authorsApiActions.getAuthorByBookId(book.getId());
 
@@ -183,6 +203,7 @@ public class GetAuthorTests extends BaseApiTest {
     }
 
     @NonRetryable
+    @ConcurrencyGroup(exclusive = true)
     @Test(groups = {"performance"})
     @Severity(SeverityLevel.CRITICAL)
     public void getAllAuthorsPerformanceTest() {
@@ -194,70 +215,59 @@ public class GetAuthorTests extends BaseApiTest {
             addAuthorToCleanup(authorsApiActions.createAuthors(Author.createValidAuthorDTOForBook(book.getId())));
         });
 
-        int activeUsers = 10;
-
-        List<CompletableFuture<ResponseWrapper<List<Author>>>> futures = IntStream.range(0, activeUsers)
-                .mapToObj(i -> CompletableFuture.supplyAsync(() ->
-                        authorsApiActions.getAuthorsApi().getAuthors()))
-                .toList();
+        AuthorsApi authorsApi = new AuthorsApi();
+        authorsApi.setSingleFlight(false);
+        authorsApi.setRateLimited(false);
+        LoadResult result = LoadEngine.run(READ_ALL_LOAD, authorsApi::getAuthors);
 
-        List<ResponseWrapper<List<Author>>> responses = futures.stream()
-                .map(CompletableFuture::join)
-                .toList();
+        Duration p95ResponseTime = Duration.ofMillis(1_000);
+        Assertions.assertThat(result.getLatency().getP95())
+                .as("95%% of requests should be performed less then in %s ms".formatted(p95ResponseTime.toMillis()))
+                .isLessThan(p95ResponseTime);
 
-        int maxResponseTimeMs = 3_000;
-        boolean allResponsesWithinLimit = responses.stream()
-                .map(ResponseWrapper::getExecutionTime)
-                .noneMatch(s -> s > maxResponseTimeMs);
+        Duration p99ResponseTime = Duration.ofMillis(2_000);
+        Assertions.assertThat(result.getLatency().getP99())
+                .as("99%% of requests should be performed less then in %s ms".formatted(p99ResponseTime.toMillis()))
+                .isLessThan(p99ResponseTime);
 
-        long failedResponses = responses.stream()
-                .filter(s -> s.getStatusCode() < 200 || s.getStatusCode() >= 300)
-                .count();
+        Duration maxResponseTime = Duration.ofMillis(3_000);
+        Assertions.assertThat(result.getLatency().getMax())
+                .as("all requests should be performed less then in %s ms".formatted(maxResponseTime.toMillis()))
+                .isLessThan(maxResponseTime);
 
-        Assertions.assertThat(allResponsesWithinLimit)
-                .as("all requests should be performed less then in %s ms".formatted(maxResponseTimeMs))
-                .isTrue();
-
-        Assertions.assertThat(failedResponses)
+        Assertions.assertThat(result.getFailed())
                 .as("all requests should be performed successfully")
                 .isEqualTo(0);
     }
 
     @NonRetryable
+    @ConcurrencyGroup(exclusive = true)
     @Test(groups = {"performance"})
     @Severity(SeverityLevel.NORMAL)
     public void getAuthorByIdPerformanceTest() {
-        Book book = bookApiActions.createBook(Book.createValidBookDTO());
-        addBookToCleanup(book);
-
-        Author author = authorsApiActions.createAuthors(Author.createValidAuthorDTOForBook(book.getId()));
-        addAuthorToCleanup(author);
+        Author author = leaseFixture().getAuthor();
 
-        int concurrentRequests = 20;
+        AuthorsApi authorsApi = new AuthorsApi();
+        authorsApi.setSingleFlight(false);
+        authorsApi.setRateLimited(false);
+        LoadResult result = LoadEngine.run(READ_BY_ID_LOAD, () -> authorsApi.getAuthorById(author.getId()));
 
-        List<CompletableFuture<ResponseWrapper<Author>>> futures = IntStream.range(0, concurrentRequests)
-                .mapToObj(i -> CompletableFuture.supplyAsync(() ->
-                        authorsApiActions.getAuthorsApi().getAuthorById(author.getId())))
-                .toList();
+        Duration p95ResponseTime = Duration.ofMillis(500);
+        Assertions.assertThat(result.getLatency().getP95())
+                .as("95%% of requests should be performed less then in %s ms".formatted(p95ResponseTime.toMillis()))
+                .isLessThan(p95ResponseTime);
 
-        List<ResponseWrapper<Author>> responses = futures.stream()
-                .map(CompletableFuture::join)
-                .toList();
+        Duration p99ResponseTime = Duration.ofMillis(1_000);
+        Assertions.assertThat(result.getLatency().getP99())
+                .as("99%% of requests should be performed less then in %s ms".formatted(p99ResponseTime.toMillis()))
+                .isLessThan(p99ResponseTime);
 
-        int maxResponseTimeMs = 2_000;
-        boolean allResponsesWithinLimit = responses.stream()
-                .map(ResponseWrapper::getExecutionTime)
-                .noneMatch(s -> s > maxResponseTimeMs);
-
-        long failedResponses = responses.stream()
-                .filter(s -> s.getStatusCode() < 200 || s.getStatusCode() >= 300)
-                .count();
-
-        Assertions.assertThat(allResponsesWithinLimit)
-                .as("all requests should be performed less then in %s ms".formatted(maxResponseTimeMs))
-                .isTrue();
+        Duration maxResponseTime = Duration.ofMillis(2_000);
+        Assertions.assertThat(result.getLatency().getMax())
+                .as("all requests should be performed less then in %s ms".formatted(maxResponseTime.toMillis()))
+                .isLessThan(maxResponseTime);
 
-        Assertions.assertThat(failedResponses)
+        Assertions.assertThat(result.getFailed())
                 .as("all requests should be performed successfully")
                 .isEqualTo(0);
     }
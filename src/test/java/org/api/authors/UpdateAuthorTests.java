@@ -6,6 +6,7 @@ import org.api.model.Author;
 import org.api.model.Book;
 import org.assertj.core.api.Assertions;
 import org.testng.annotations.Test;
+import org.utils.ExecutionUtils;
 import org.utils.ObjectUtils;
 
 import java.util.List;
@@ -299,10 +300,10 @@ public class UpdateAuthorTests extends BaseApiTest {
         Author update1 = Author.createValidAuthorDTOForBook(book1.getId()).setFirstName("Update1");
         Author update2 = Author.createValidAuthorDTOForBook(book2.getId()).setFirstName("Update2");
 
-        CompletableFuture<Author> future1 = CompletableFuture.supplyAsync(() ->
+        CompletableFuture<Author> future1 = ExecutionUtils.supplyAsync(() ->
                 authorsApiActions.updateAuthor(author.getId(), update1)
         );
-        CompletableFuture<Author> future2 = CompletableFuture.supplyAsync(() ->
+        CompletableFuture<Author> future2 = ExecutionUtils.supplyAsync(() ->
                 authorsApiActions.updateAuthor(author.getId(), update2)
         );
 
@@ -1,8 +1,11 @@
 package org.api.book;
 
 import io.qameta.allure.*;
+import org.annotations.ConcurrencyGroup;
 import org.annotations.NonRetryable;
 import org.api.BaseApiTest;
+import org.api.ResponseWrapper;
+import org.api.call.BookAsyncApi;
 import org.api.model.Book;
 import org.assertj.core.api.Assertions;
 import org.testng.annotations.Ignore;
@@ -168,12 +171,15 @@ public class CreateBookTests extends BaseApiTest {
 
 
     @NonRetryable(reason = "This is performance test, we want to see the real results")
+    @ConcurrencyGroup(exclusive = true)
     @Test(groups = {"performance"})
     public void concurrentBookCreationTest() {
         int bookToCreate = 20;
+        BookAsyncApi bookAsyncApi = new BookAsyncApi();
+        bookAsyncApi.setRateLimited(false);
         List<CompletableFuture<Book>> futures = IntStream.range(0, bookToCreate)
-                .mapToObj(i -> CompletableFuture.supplyAsync(() ->
-                        bookApiActions.createBook(Book.createValidBookDTO())))
+                .mapToObj(i -> bookAsyncApi.createBook(Book.createValidBookDTO())
+                        .thenApply(ResponseWrapper::get))
                 .toList();
 
         List<Book> books = futures.stream()
@@ -1,28 +1,40 @@
 package org.api.book;
 
 import io.qameta.allure.*;
+import org.annotations.ConcurrencyGroup;
 import org.annotations.NonRetryable;
 import org.api.BaseApiTest;
-import org.api.ResponseWrapper;
+import org.api.call.BookApi;
 import org.api.model.Book;
 import org.api.model.ErrorModel;
 import org.assertj.core.api.Assertions;
+import org.load.LoadEngine;
+import org.load.LoadProfile;
+import org.load.LoadResult;
 import org.testng.annotations.Test;
+import org.utils.TestDataGenerator;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
-import java.util.concurrent.CompletableFuture;
-import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 @Epic("Books API")
 @Feature("Books Management")
 @Story("Get Book")
 public class GetBookTests extends BaseApiTest {
 
+    private static final LoadProfile READ_ALL_LOAD = new LoadProfile()
+            .setTargetRps(10)
+            .setRampUp(Duration.ofSeconds(2))
+            .setSteadyState(Duration.ofSeconds(5))
+            .setRampDown(Duration.ofSeconds(2));
+
     @Test(groups = {"smoke"})
     @Severity(SeverityLevel.CRITICAL)
     public void getBookById() {
-        Book createdBook = bookApiActions.createBook(Book.createValidBookDTO());
-        addBookToCleanup(createdBook);
+        Book createdBook = leaseFixture().getBook();
 
         Book retriviwedBook = bookApiActions.getBook(createdBook);
 
@@ -58,59 +70,68 @@ public class GetBookTests extends BaseApiTest {
     @Test(groups = {"smoke"})
     @Severity(SeverityLevel.CRITICAL)
     public void getAllBooks() {
-        Book book1 = bookApiActions.createBook(Book.createValidBookDTO());
-        Book book2 = bookApiActions.createBook(Book.createValidBookDTO());
-
-        addBookToCleanup(book1, book2);
-
-        List<Book> allBooks = bookApiActions.getBooks();
-
-        Assertions.assertThat(allBooks)
-                .as("Books list should not be null")
-                .isNotNull();
-
-        Assertions.assertThat(allBooks)
+        Book book1 = leaseFixture().getBook();
+        Book book2 = leaseFixture().getBook();
+
+        List<Book> booksMatchedToBook1 = new ArrayList<>();
+        boolean book2Listed = false;
+        long booksCount = 0;
+        try (Stream<Book> allBooks = bookApiActions.streamBooks()) {
+            Assertions.assertThat(allBooks)
+                    .as("Books list should not be null")
+                    .isNotNull();
+            for (Iterator<Book> books = allBooks.iterator(); books.hasNext(); booksCount++) {
+                Book book = books.next();
+                if (book.getId().equals(book1.getId())) {
+                    booksMatchedToBook1.add(book);
+                }
+                book2Listed |= book.getId().equals(book2.getId());
+            }
+        }
+
+        Assertions.assertThat(booksCount)
                 .as("Books list should not be empty")
-                .isNotEmpty();
-
-        List<Book> booksMatchedToBook1 = allBooks.stream()
-                .filter(s -> s.getId().equals(book1.getId()))
-                .toList();
+                .isPositive();
 
         Assertions.assertThat(booksMatchedToBook1)
                 .as("Check that only 1 book matched criteria to book #1")
                 .hasSize(1);
         Assertions.assertThat(booksMatchedToBook1.getFirst().getId()).as("Assert that BE created ID for book 1").isNotNull();
+        Assertions.assertThat(book2Listed)
+                .as("Book #2 should be listed as well")
+                .isTrue();
     }
 
     @NonRetryable
+    @ConcurrencyGroup(exclusive = true)
     @Test(groups = {"performance"})
     @Severity(SeverityLevel.CRITICAL)
     public void getAllBooksPerformanceTest() {
         int bookToCreate = 200;
-        IntStream.range(0, bookToCreate).forEach(s -> {
-            addBookToCleanup(bookApiActions.createBook(Book.createValidBookDTO()));
-        });
-        int activeUsers = 20;
-
-        List<CompletableFuture<ResponseWrapper<List<Book>>>> futures = IntStream.range(0, activeUsers)
-                .mapToObj(i -> CompletableFuture.supplyAsync(() ->
-                        bookApiActions.getBookApi().getBooks()))
-                .toList();
-
-        List<ResponseWrapper<List<Book>>> responses = futures.stream()
-                .map(CompletableFuture::join)
-                .toList();
-        int maxResponseTimeMs = 3_000;
-        boolean allResponsesWithinLimit = responses.stream()
-                .map(ResponseWrapper::getExecutionTime)
-                .noneMatch(s -> s > maxResponseTimeMs);
-
-        long failedResponses = responses.stream()
-                .filter(s -> s.getStatusCode() < 200 || s.getStatusCode() >= 300)
-                .count();
-        Assertions.assertThat(allResponsesWithinLimit).as("all requests should be performed less then in %s ms".formatted(maxResponseTimeMs))
-                .isTrue();
-        Assertions.assertThat(failedResponses).as("all requests should be performed successfully").isEqualTo(0);
+        TestDataGenerator.books(bookToCreate).forEach(book ->
+                addBookToCleanup(bookApiActions.createBook(book)));
+        BookApi bookApi = new BookApi();
+        bookApi.setSingleFlight(false);
+        bookApi.setRateLimited(false);
+        LoadResult result = LoadEngine.run(READ_ALL_LOAD, bookApi::getBooks);
+
+        Duration p95ResponseTime = Duration.ofMillis(1_000);
+        Assertions.assertThat(result.getLatency().getP95())
+                .as("95%% of requests should be performed less then in %s ms".formatted(p95ResponseTime.toMillis()))
+                .isLessThan(p95ResponseTime);
+
+        Duration p99ResponseTime = Duration.ofMillis(2_000);
+        Assertions.assertThat(result.getLatency().getP99())
+                .as("99%% of requests should be performed less then in %s ms".formatted(p99ResponseTime.toMillis()))
+                .isLessThan(p99ResponseTime);
+
+        Duration maxResponseTime = Duration.ofMillis(3_000);
+        Assertions.assertThat(result.getLatency().getMax())
+                .as("all requests should be performed less then in %s ms".formatted(maxResponseTime.toMillis()))
+                .isLessThan(maxResponseTime);
+
+        Assertions.assertThat(result.getFailed())
+                .as("all requests should be performed successfully")
+                .isEqualTo(0);
     }
 }
@@ -5,6 +5,7 @@ import org.api.BaseApiTest;
 import org.api.model.Book;
 import org.assertj.core.api.Assertions;
 import org.testng.annotations.Test;
+import org.utils.ExecutionUtils;
 import org.utils.ObjectUtils;
 
 import java.time.Instant;
@@ -239,10 +240,10 @@ public class UpdateBookTests extends BaseApiTest {
         Book update1 = Book.createValidBookDTO().setTitle("Update1");
         Book update2 = Book.createValidBookDTO().setTitle("Update2");
 
-        CompletableFuture<Book> future1 = CompletableFuture.supplyAsync(() ->
+        CompletableFuture<Book> future1 = ExecutionUtils.supplyAsync(() ->
                 bookApiActions.updateBook(book.getId(), update1)
         );
-        CompletableFuture<Book> future2 = CompletableFuture.supplyAsync(() ->
+        CompletableFuture<Book> future2 = ExecutionUtils.supplyAsync(() ->
                 bookApiActions.updateBook(book.getId(), update2)
         );
 
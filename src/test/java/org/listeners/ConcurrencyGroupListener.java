@@ -0,0 +1,109 @@
+package org.listeners;
+
+import org.annotations.ConcurrencyGroup;
+import org.testng.IConfigurationListener;
+import org.testng.IInvokedMethod;
+import org.testng.IInvokedMethodListener;
+import org.testng.ITestNGMethod;
+import org.testng.ITestResult;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Enforces {@link ConcurrencyGroup} around test method invocations: every test holds the read lock of its
+ * resource, exclusive tests hold the write lock, and limited groups additionally take a permit.
+ * The locks are fair, so a waiting exclusive test is not starved by functional tests that keep starting.
+ * {@code @BeforeMethod}/{@code @AfterMethod} calls take the lock of the test they belong to as well, so data setup
+ * and cleanup of other tests do not reach the backend while an exclusive test runs.
+ */
+public class ConcurrencyGroupListener implements IInvokedMethodListener, IConfigurationListener {
+
+    /**
+     * Time the test waited for its resource, part of the reported test duration
+     */
+    static final String WAIT_MILLIS_ATTRIBUTE = "concurrencyGroup.waitMillis";
+    private static final String LOCK_ATTRIBUTE = "concurrencyGroup.lock";
+
+    private static final Map<String, ReadWriteLock> RESOURCES = new ConcurrentHashMap<>();
+    private static final Map<String, Semaphore> PERMITS = new ConcurrentHashMap<>();
+
+    @Override
+    public void beforeInvocation(IInvokedMethod method, ITestResult testResult) {
+        if (!method.isTestMethod()) {
+            return;
+        }
+        ConcurrencyGroup group = groupOf(method.getTestMethod());
+        long start = System.nanoTime();
+        if (group != null && group.permits() > 0) {
+            PERMITS.computeIfAbsent(group.value(), name -> new Semaphore(group.permits(), true)).acquireUninterruptibly();
+        }
+        lockOf(group).lock();
+        testResult.setAttribute(WAIT_MILLIS_ATTRIBUTE, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+    }
+
+    @Override
+    public void afterInvocation(IInvokedMethod method, ITestResult testResult) {
+        if (!method.isTestMethod()) {
+            return;
+        }
+        ConcurrencyGroup group = groupOf(method.getTestMethod());
+        lockOf(group).unlock();
+        if (group != null && group.permits() > 0) {
+            PERMITS.get(group.value()).release();
+        }
+    }
+
+    @Override
+    public void beforeConfiguration(ITestResult configurationResult, ITestNGMethod testMethod) {
+        if (testMethod == null) {
+            return;
+        }
+        Lock lock = lockOf(groupOf(testMethod));
+        lock.lock();
+        configurationResult.setAttribute(LOCK_ATTRIBUTE, lock);
+    }
+
+    @Override
+    public void onConfigurationSuccess(ITestResult configurationResult, ITestNGMethod testMethod) {
+        unlockConfiguration(configurationResult);
+    }
+
+    @Override
+    public void onConfigurationFailure(ITestResult configurationResult, ITestNGMethod testMethod) {
+        unlockConfiguration(configurationResult);
+    }
+
+    @Override
+    public void onConfigurationSkip(ITestResult configurationResult, ITestNGMethod testMethod) {
+        unlockConfiguration(configurationResult);
+    }
+
+    /**
+     * Skipped configurations are reported without having started, they hold no lock
+     */
+    private static void unlockConfiguration(ITestResult configurationResult) {
+        if (configurationResult.removeAttribute(LOCK_ATTRIBUTE) instanceof Lock lock) {
+            lock.unlock();
+        }
+    }
+
+    private static Lock lockOf(ConcurrencyGroup group) {
+        String resource = group != null ? group.value() : ConcurrencyGroup.BACKEND;
+        ReadWriteLock lock = RESOURCES.computeIfAbsent(resource, name -> new ReentrantReadWriteLock(true));
+        return group != null && group.exclusive() ? lock.writeLock() : lock.readLock();
+    }
+
+    private static ConcurrencyGroup groupOf(ITestNGMethod testMethod) {
+        Method method = testMethod.getConstructorOrMethod().getMethod();
+        ConcurrencyGroup group = method.getAnnotation(ConcurrencyGroup.class);
+        Class<?> testClass = testMethod.getRealClass();
+        return group != null ? group : testClass.getAnnotation(ConcurrencyGroup.class);
+    }
+}
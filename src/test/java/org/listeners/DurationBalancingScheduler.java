@@ -0,0 +1,180 @@
+package org.listeners;
+
+import lombok.extern.log4j.Log4j2;
+import org.annotations.ConcurrencyGroup;
+import org.configuration.ConfigurationLoader;
+import org.testng.IMethodInstance;
+import org.testng.IMethodInterceptor;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+import org.testng.ITestContext;
+import org.testng.ITestListener;
+import org.testng.ITestNGMethod;
+import org.testng.ITestResult;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Orders test methods longest-first by their recorded duration, so the parallel workers pick up slow tests
+ * early and finish close together (LPT scheduling). Durations of the current run are blended into the
+ * history file at the end of the suite; methods without history are assumed to take the median.
+ * Exclusive {@link ConcurrencyGroup} tests run alone, so the predicted makespan adds their durations up.
+ */
+@Log4j2
+public class DurationBalancingScheduler implements IMethodInterceptor, ITestListener, ISuiteListener {
+
+    private static final Map<String, Long> HISTORY = new ConcurrentHashMap<>();
+    private static final Map<String, Long> CURRENT = new ConcurrentHashMap<>();
+    private static final AtomicLong FIRST_START = new AtomicLong(Long.MAX_VALUE);
+    private static final AtomicLong LAST_END = new AtomicLong();
+    private static volatile long predictedMakespan = -1;
+    private static volatile int workers;
+
+    @Override
+    public void onStart(ISuite suite) {
+        Path file = historyFile();
+        if (file == null || !Files.isRegularFile(file)) {
+            return;
+        }
+        Properties properties = new Properties();
+        try (Reader reader = Files.newBufferedReader(file)) {
+            properties.load(reader);
+        } catch (IOException e) {
+            log.warn("Unable to read test duration history {}", file, e);
+            return;
+        }
+        properties.stringPropertyNames().forEach(key -> HISTORY.put(key, Long.parseLong(properties.getProperty(key))));
+        log.info("Loaded durations of {} test methods from {}", HISTORY.size(), file);
+    }
+
+    @Override
+    public List<IMethodInstance> intercept(List<IMethodInstance> methods, ITestContext context) {
+        if (HISTORY.isEmpty()) {
+            return methods;
+        }
+        long defaultDuration = median(HISTORY.values());
+        List<IMethodInstance> ordered = new ArrayList<>(methods);
+        ordered.sort(Comparator.comparingLong((IMethodInstance method) -> expectedDuration(method.getMethod(), defaultDuration))
+                .reversed());
+
+        workers = Math.max(1, context.getSuite().getXmlSuite().getThreadCount());
+        PriorityQueue<Long> finishTimes = new PriorityQueue<>();
+        for (int i = 0; i < workers; i++) {
+            finishTimes.add(0L);
+        }
+        long exclusive = 0;
+        long makespan = 0;
+        for (IMethodInstance method : ordered) {
+            long duration = expectedDuration(method.getMethod(), defaultDuration);
+            if (isExclusive(method.getMethod())) {
+                exclusive += duration;
+                continue;
+            }
+            long finish = finishTimes.poll() + duration;
+            finishTimes.add(finish);
+            makespan = Math.max(makespan, finish);
+        }
+        predictedMakespan = exclusive + makespan;
+        return ordered;
+    }
+
+    @Override
+    public void onTestSuccess(ITestResult result) {
+        record(result);
+    }
+
+    @Override
+    public void onTestFailure(ITestResult result) {
+        record(result);
+    }
+
+    @Override
+    public void onTestSkipped(ITestResult result) {
+        if (result.wasRetried()) {
+            record(result);
+        }
+    }
+
+    @Override
+    public void onFinish(ISuite suite) {
+        if (LAST_END.get() > 0) {
+            long actual = LAST_END.get() - FIRST_START.get();
+            if (predictedMakespan >= 0) {
+                log.info("Test makespan on {} workers: predicted {} ms, actual {} ms", workers, predictedMakespan, actual);
+            } else {
+                log.info("Test makespan: {} ms, no duration history to schedule by", actual);
+            }
+        }
+        Path file = historyFile();
+        if (file == null || CURRENT.isEmpty()) {
+            return;
+        }
+        CURRENT.forEach((key, duration) -> HISTORY.merge(key, duration, (previous, current) -> (previous + current) / 2));
+        Properties properties = new Properties();
+        HISTORY.forEach((key, duration) -> properties.setProperty(key, Long.toString(duration)));
+        try {
+            if (file.getParent() != null) {
+                Files.createDirectories(file.getParent());
+            }
+            try (Writer writer = Files.newBufferedWriter(file)) {
+                properties.store(writer, "Test method durations in ms, used to order parallel execution");
+            }
+        } catch (IOException e) {
+            log.warn("Unable to write test duration history {}", file, e);
+        }
+    }
+
+    private static void record(ITestResult result) {
+        long duration = result.getEndMillis() - result.getStartMillis();
+        if (result.getAttribute(ConcurrencyGroupListener.WAIT_MILLIS_ATTRIBUTE) instanceof Long waitMillis) {
+            duration -= waitMillis;
+        }
+        CURRENT.merge(key(result.getMethod()), duration, Long::sum);
+        FIRST_START.accumulateAndGet(result.getStartMillis(), Math::min);
+        LAST_END.accumulateAndGet(result.getEndMillis(), Math::max);
+    }
+
+    private static long expectedDuration(ITestNGMethod method, long defaultDuration) {
+        return HISTORY.getOrDefault(key(method), defaultDuration);
+    }
+
+    /**
+     * Exclusive tests run one at a time with nothing else, they add up instead of being packed
+     */
+    private static boolean isExclusive(ITestNGMethod method) {
+        ConcurrencyGroup group = method.getConstructorOrMethod().getMethod().getAnnotation(ConcurrencyGroup.class);
+        if (group == null) {
+            Class<?> testClass = method.getRealClass();
+            group = testClass.getAnnotation(ConcurrencyGroup.class);
+        }
+        return group != null && group.exclusive();
+    }
+
+    private static String key(ITestNGMethod method) {
+        return method.getRealClass().getName() + "#" + method.getMethodName();
+    }
+
+    private static long median(Iterable<Long> durations) {
+        List<Long> sorted = new ArrayList<>();
+        durations.forEach(sorted::add);
+        sorted.sort(null);
+        return sorted.get(sorted.size() / 2);
+    }
+
+    private static Path historyFile() {
+        String file = ConfigurationLoader.getAutomationConfiguration().getExecution().getDurationHistoryFile();
+        return file == null || file.isBlank() ? null : Path.of(file);
+    }
+}
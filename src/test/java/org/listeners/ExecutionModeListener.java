@@ -0,0 +1,33 @@
+package org.listeners;
+
+import org.configuration.ConfigurationLoader;
+import org.configuration.ConfigurationSnapshot;
+import org.configuration.model.ThreadMode;
+import org.testng.IAlterSuiteListener;
+import org.testng.TestNG;
+import org.testng.xml.XmlSuite;
+
+import java.util.List;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * Runs parallel test methods on virtual threads when execution.threadMode=virtual.
+ * TestNG only accepts an executor factory through the command line, so it is set on the running instance.
+ */
+public class ExecutionModeListener implements IAlterSuiteListener {
+
+    @Override
+    @SuppressWarnings("deprecation")
+    public void alter(List<XmlSuite> suites) {
+        ConfigurationSnapshot execution = ConfigurationLoader.getSnapshot();
+        if (execution.getThreadMode() != ThreadMode.VIRTUAL || TestNG.getDefault() == null) {
+            return;
+        }
+        if (execution.getParallelism() > 0) {
+            suites.forEach(suite -> suite.setThreadCount(execution.getParallelism()));
+        }
+        TestNG.getDefault().setExecutorServiceFactory((corePoolSize, maximumPoolSize, keepAliveTime, unit, workQueue, threadFactory) ->
+                new ThreadPoolExecutor(corePoolSize, maximumPoolSize, keepAliveTime, unit, workQueue,
+                        Thread.ofVirtual().name("TestNG-virtual-", 0).factory()));
+    }
+}
@@ -11,7 +11,7 @@ import java.lang.reflect.Method;
 public class RetryAnalyzer implements IRetryAnalyzer {
 
     private final ThreadLocal<Integer> retryCount = ThreadLocal.withInitial(() -> 0);
-    private static final int MAX_RETRY_COUNT = ConfigurationLoader.getAutomationConfiguration().getExecution().getRetry();
+    private static final int MAX_RETRY_COUNT = ConfigurationLoader.getSnapshot().getRetry();
 
     @Override
     public boolean retry(ITestResult result) {
@@ -21,8 +21,9 @@ public class RetryAnalyzer implements IRetryAnalyzer {
         }
 
         int currentRetryCount = retryCount.get();
-        if (currentRetryCount < MAX_RETRY_COUNT) {
+        if (currentRetryCount < MAX_RETRY_COUNT && RetryPolicy.tryAcquire(result.getName())) {
             retryCount.set(currentRetryCount + 1);
+            RetryPolicy.backoff(currentRetryCount + 1);
             return true;
         }
         retryCount.remove();
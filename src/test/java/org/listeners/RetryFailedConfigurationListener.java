@@ -9,19 +9,20 @@ import org.testng.ITestResult;
 public class RetryFailedConfigurationListener implements IConfigurable {
 
     /**
-     * Retry mechanism for @Before and @After methods
+     * Retry mechanism for @Before and @After methods, paced and limited by {@link RetryPolicy}
      */
 
     @Override
     public void run(IConfigureCallBack callBack, ITestResult testResult) {
         callBack.runConfigurationMethod(testResult);
-        if (testResult.getThrowable() != null) {
-            for (int i = 0; i < ConfigurationLoader.getAutomationConfiguration().getExecution().getRetry(); i++) {
-                callBack.runConfigurationMethod(testResult);
-                if (testResult.getThrowable() == null) {
-                    break;
-                }
+        RetryPolicy.recordOutcome(testResult.getThrowable() == null);
+        for (int i = 0; i < ConfigurationLoader.getSnapshot().getRetry() && testResult.getThrowable() != null; i++) {
+            if (!RetryPolicy.tryAcquire(testResult.getName())) {
+                break;
             }
+            RetryPolicy.backoff(i + 1);
+            callBack.runConfigurationMethod(testResult);
+            RetryPolicy.recordOutcome(testResult.getThrowable() == null);
         }
     }
 
@@ -0,0 +1,27 @@
+package org.listeners;
+
+import org.testng.ITestListener;
+import org.testng.ITestResult;
+
+/**
+ * Feeds test outcomes to the {@link RetryPolicy} circuit breaker, a retried attempt counts as a failure
+ */
+public class RetryOutcomeListener implements ITestListener {
+
+    @Override
+    public void onTestSuccess(ITestResult result) {
+        RetryPolicy.recordOutcome(true);
+    }
+
+    @Override
+    public void onTestFailure(ITestResult result) {
+        RetryPolicy.recordOutcome(false);
+    }
+
+    @Override
+    public void onTestSkipped(ITestResult result) {
+        if (result.wasRetried()) {
+            RetryPolicy.recordOutcome(false);
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package org.listeners;
+
+import lombok.extern.log4j.Log4j2;
+import org.configuration.ConfigurationLoader;
+import org.configuration.model.ExecutionConfiguration;
+
+import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Suite-wide guard for test and configuration retries: exponential backoff with full jitter, a token bucket
+ * limiting the total number of retries, and a circuit breaker that stops retrying while most recent
+ * outcomes are failures, so an overloaded backend is not hit by a retry storm.
+ */
+@Log4j2
+public class RetryPolicy {
+
+    private static final ExecutionConfiguration EXECUTION = ConfigurationLoader.getAutomationConfiguration().getExecution();
+
+    private static final RetryBudget BUDGET = new RetryBudget(EXECUTION.getRetryBudget(), EXECUTION.getRetryBudgetRefillPerMinute());
+    private static final CircuitBreaker CIRCUIT_BREAKER = new CircuitBreaker(EXECUTION.getCircuitBreakerFailureRatePercent(),
+            EXECUTION.getCircuitBreakerWindow(), EXECUTION.getCircuitBreakerOpenSeconds());
+
+    /**
+     * Takes a retry from the budget unless the circuit breaker is open
+     */
+    public static boolean tryAcquire(String name) {
+        if (!CIRCUIT_BREAKER.allowsRetry()) {
+            log.warn("Retry of {} skipped, circuit breaker is open", name);
+            return false;
+        }
+        if (!BUDGET.tryAcquire()) {
+            log.warn("Retry of {} skipped, retry budget exhausted", name);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Sleeps before retry number {@code attempt} (1-based)
+     */
+    public static void backoff(int attempt) {
+        long ceiling = Math.min((long) EXECUTION.getRetryMaxBackoffMillis(),
+                (long) EXECUTION.getRetryBackoffMillis() << Math.min(attempt - 1, 30));
+        if (ceiling <= 0) {
+            return;
+        }
+        long delay = ThreadLocalRandom.current().nextLong(ceiling + 1);
+        try {
+            TimeUnit.MILLISECONDS.sleep(delay);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    public static void recordOutcome(boolean success) {
+        CIRCUIT_BREAKER.record(success);
+    }
+
+    private static class RetryBudget {
+
+        private final int capacity;
+        private final double tokensPerNano;
+        private double tokens;
+        private long lastRefill = System.nanoTime();
+
+        RetryBudget(int capacity, int refillPerMinute) {
+            this.capacity = capacity;
+            this.tokensPerNano = refillPerMinute / (double) TimeUnit.MINUTES.toNanos(1);
+            this.tokens = capacity;
+        }
+
+        synchronized boolean tryAcquire() {
+            if (capacity <= 0) {
+                return true;
+            }
+            long now = System.nanoTime();
+            tokens = Math.min(capacity, tokens + (now - lastRefill) * tokensPerNano);
+            lastRefill = now;
+            if (tokens < 1) {
+                return false;
+            }
+            tokens--;
+            return true;
+        }
+    }
+
+    /**
+     * Count-based window of the last outcomes, after the open period the window starts over
+     */
+    private static class CircuitBreaker {
+
+        private final int failureRatePercent;
+        private final boolean[] failures;
+        private final long openNanos;
+        private int next;
+        private int recorded;
+        private int failed;
+        private long openedAt;
+        private boolean open;
+
+        CircuitBreaker(int failureRatePercent, int window, int openSeconds) {
+            this.failureRatePercent = failureRatePercent;
+            this.failures = new boolean[Math.max(1, window)];
+            this.openNanos = TimeUnit.SECONDS.toNanos(openSeconds);
+        }
+
+        synchronized boolean allowsRetry() {
+            if (open && System.nanoTime() - openedAt >= openNanos) {
+                open = false;
+                next = recorded = failed = 0;
+                Arrays.fill(failures, false);
+                log.info("Circuit breaker closed, retries resumed");
+            }
+            return !open;
+        }
+
+        synchronized void record(boolean success) {
+            if (failureRatePercent <= 0 || open) {
+                return;
+            }
+            if (recorded == failures.length) {
+                if (failures[next]) {
+                    failed--;
+                }
+            } else {
+                recorded++;
+            }
+            failures[next] = !success;
+            if (!success) {
+                failed++;
+            }
+            next = (next + 1) % failures.length;
+            if (recorded == failures.length && failed * 100 >= failureRatePercent * recorded) {
+                open = true;
+                openedAt = System.nanoTime();
+                log.warn("Circuit breaker opened: {} of the last {} outcomes failed", failed, recorded);
+            }
+        }
+    }
+}